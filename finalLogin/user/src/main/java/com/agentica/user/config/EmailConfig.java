@@ -3,7 +3,6 @@ package com.agentica.user.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
@@ -23,8 +22,19 @@ public class EmailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    // SMTP 타임아웃(ms) - 기본값은 무한 대기라 응답 없는 서버가 발송 작업자를 멈추고 임대 만료 후 중복 발송을 일으킴
+    @Value("${spring.mail.properties.mail.smtp.connectiontimeout:10000}")
+    private int connectTimeoutMillis;
+
+    @Value("${spring.mail.properties.mail.smtp.timeout:15000}")
+    private int readTimeoutMillis;
+
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:15000}")
+    private int writeTimeoutMillis;
+
+    // 구현 타입으로 노출 → MailOutbox 가 세션/접속 정보로 SMTP 연결을 직접 열어 재사용
     @Bean
-    public JavaMailSender javaMailSender() {
+    public JavaMailSenderImpl javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
         mailSender.setHost(host);
         mailSender.setPort(port);
@@ -36,6 +46,9 @@ public class EmailConfig {
         props.put("mail.smtp.auth", "true");
         props.put("mail.smtp.starttls.enable", "true");
         props.put("mail.smtp.starttls.required", "true");
+        props.put("mail.smtp.connectiontimeout", String.valueOf(connectTimeoutMillis));
+        props.put("mail.smtp.timeout", String.valueOf(readTimeoutMillis));
+        props.put("mail.smtp.writetimeout", String.valueOf(writeTimeoutMillis));
         props.put("mail.debug", "false");
 
         return mailSender;
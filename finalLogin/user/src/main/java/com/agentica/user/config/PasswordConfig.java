@@ -1,15 +1,92 @@
 package com.agentica.user.config;
 
+import com.agentica.user.security.BoundedPasswordEncoder;
+import com.agentica.user.security.PasswordHashCalibrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 public class PasswordConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    // 0 이면 CPU 코어 수
+    @Value("${auth.password-hashing.pool-size:0}")
+    private int poolSize;
+
+    @Value("${auth.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.password-hashing.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    // 새 해시에 사용할 알고리즘 (argon2 | bcrypt)
+    @Value("${auth.password-hashing.algorithm:argon2}")
+    private String algorithm;
+
+    // false 면 작업량 산정 없이 최소값 사용 (테스트 등)
+    @Value("${auth.password-hashing.calibrate:true}")
+    private boolean calibrate;
+
+    @Value("${auth.password-hashing.target-latency:250ms}")
+    private Duration targetLatency;
+
+    @Value("${auth.password-hashing.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${auth.password-hashing.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    @Value("${auth.password-hashing.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${auth.password-hashing.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${auth.password-hashing.argon2.min-iterations:2}")
+    private int argon2MinIterations;
+
+    @Value("${auth.password-hashing.argon2.max-iterations:10}")
+    private int argon2MaxIterations;
+
+    /**
+     * 비밀번호 해시/비교는 전용 작업 풀에서만 실행 (Tomcat 요청 스레드의 CPU 독점 방지)
+     *
+     * 저장 형식은 {id}해시 (DelegatingPasswordEncoder)
+     * - 접두사 없는 기존 해시는 BCrypt 로 비교
+     * - 현재 알고리즘/작업량보다 약한 해시는 로그인 성공 시 다시 해시 (MemberAuthenticationProvider)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘: " + algorithm);
+        }
+
+        int bcryptStrength = calibrate && BCRYPT.equals(algorithm)
+                ? PasswordHashCalibrator.bcryptStrength(targetLatency, bcryptMinStrength, bcryptMaxStrength)
+                : bcryptMinStrength;
+        int argon2Iterations = calibrate && ARGON2.equals(algorithm)
+                ? PasswordHashCalibrator.argon2Iterations(targetLatency, argon2MemoryKib, argon2Parallelism,
+                        argon2MinIterations, argon2MaxIterations)
+                : argon2MinIterations;
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, PasswordHashCalibrator.argon2(argon2MemoryKib, argon2Parallelism, argon2Iterations)));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, retryAfterSeconds, meterRegistry);
     }
     
 }
@@ -2,21 +2,34 @@ package com.agentica.user.config;
 
 import com.agentica.user.oauth2.CustomOAuth2UserService;
 import com.agentica.user.oauth2.OAuth2SuccessHandler;
+import com.agentica.user.security.AuthVerifyFilter;
+import com.agentica.user.security.InternalRequestMatcher;
+import com.agentica.user.security.LoginRateLimitFilter;
+import com.agentica.user.security.LoginRateLimiter;
+import com.agentica.user.security.MemberAuthenticationProvider;
 import com.agentica.user.security.SimpleLogoutSuccessHandler;
 import com.agentica.user.security.JwtAuthenticationFilter;
 import com.agentica.user.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.InMemoryOAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -33,6 +46,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.util.Arrays;
+import java.util.List;
 
 @Slf4j
 @Configuration
@@ -44,6 +58,27 @@ public class SecurityConfig {
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final SimpleLogoutSuccessHandler simpleLogoutSuccessHandler;
 
+    @Value("${jwt.stateless-auth.enabled:true}")
+    private boolean statelessAuthEnabled;
+
+    // 비밀번호 확인/변경, 탈퇴 등 민감한 요청은 무상태 모드에서도 회원을 DB에서 재조회
+    @Value("${jwt.stateless-auth.member-lookup-paths:/api/auth/verify-password,/api/auth/set-password,/api/auth/update-profile,/api/auth/initiate-delete-account,/api/auth/delete-account,/api/member/verify-password,/api/member/update}")
+    private String[] memberLookupPaths;
+
+    // 시도 횟수 제한 대상 (자격 증명을 검사하는 엔드포인트)
+    @Value("${auth.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${auth.rate-limit.paths:/api/auth/login,/api/auth/verify-password,/api/auth/verify-code,/api/member/verify-password}")
+    private String[] rateLimitPaths;
+
+    // nginx 뒤에서 실행하는 프로필에서만 true, 그때도 접속 주소가 trusted-proxies 대역일 때만 X-Forwarded-For 사용
+    @Value("${auth.rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Value("${auth.rate-limit.trusted-proxies:127.0.0.1/32,::1/128}")
+    private String[] trustedProxies;
+
     // ✅ 순환참조 해결: @Lazy를 사용한 생성자 주입
     public SecurityConfig(
         JwtTokenProvider jwtTokenProvider,
@@ -59,16 +94,21 @@ public class SecurityConfig {
 
       @Bean
     @Order(1) // 가장 높은 우선순위로 설정
-    public SecurityFilterChain filterChain(HttpSecurity http, ClientRegistrationRepository clientRegistrationRepository) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, ClientRegistrationRepository clientRegistrationRepository,
+                                           InternalRequestMatcher internalRequestMatcher) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))            .sessionManagement(session -> 
                 session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
             )
             .authorizeHttpRequests(authz -> authz
+                // 내부 서비스 API (토큰 일괄 검증 등) - nginx 차단과 별개로 접속 주소/공유 비밀값 검사
+                .requestMatchers("/internal/**").access((authentication, context) ->
+                        new AuthorizationDecision(internalRequestMatcher.matches(context.getRequest())))
                 .requestMatchers("/", "/main", "/custom-login", "/join", "/api/auth/**", 
                                "/oauth2/**", "/login/oauth2/code/**", // OAuth2 콜백 경로 명시적 허용
-                               "/logout-complete", "/logout-social", "/delete-account-complete").permitAll()
+                               "/logout-complete", "/logout-social", "/delete-account-complete",
+                               "/.well-known/jwks.json").permitAll()
                 .requestMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
                 .anyRequest().authenticated()
             )
@@ -90,6 +130,11 @@ public class SecurityConfig {
             )
             .exceptionHandling(ex -> ex
                 .authenticationEntryPoint((request, response, authException) -> {
+                    // 허용되지 않은 내부 API 접근 → nginx 와 동일하게 404
+                    if (request.getRequestURI().startsWith(request.getContextPath() + "/internal/")) {
+                        response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                        return;
+                    }
                     // 로그인 안 된 상태에서 보호된 리소스 접근 → 커스텀 로그인 페이지로 이동
                     response.sendRedirect("/custom-login");
                 })            ).logout(logout -> logout
@@ -111,17 +156,66 @@ public class SecurityConfig {
                     forceDeleteJSessionId(request, response);
                 })
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, statelessAuthEnabled, memberLookupPaths),
                              UsernamePasswordAuthenticationFilter.class);        return http.build();
     }
 
+    /**
+     * nginx auth_request 검증 필터 - Spring Security 체인보다 먼저 실행되어 바로 응답
+     */
+    @Bean
+    public FilterRegistrationBean<AuthVerifyFilter> authVerifyFilter() {
+        FilterRegistrationBean<AuthVerifyFilter> registration =
+                new FilterRegistrationBean<>(new AuthVerifyFilter(jwtTokenProvider));
+        registration.addUrlPatterns(AuthVerifyFilter.VERIFY_PATH);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private List<IpAddressMatcher> trustedProxies() {
+        if (!trustForwardedFor) {
+            return List.of();
+        }
+        return Arrays.stream(trustedProxies)
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    /**
+     * 로그인/비밀번호 확인 시도 횟수 제한 - Spring Security 체인보다 먼저 실행되어 바로 429 응답
+     */
+    @Bean
+    public FilterRegistrationBean<LoginRateLimitFilter> loginRateLimitFilter(LoginRateLimiter loginRateLimiter,
+                                                                             ObjectMapper objectMapper) {
+        FilterRegistrationBean<LoginRateLimitFilter> registration = new FilterRegistrationBean<>(
+                new LoginRateLimitFilter(loginRateLimiter, jwtTokenProvider, objectMapper, trustedProxies()));
+        registration.addUrlPatterns(rateLimitPaths);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.setEnabled(rateLimitEnabled);
+        return registration;
+    }
+
+    /**
+     * 이메일/비밀번호 로그인 전용 AuthenticationManager (회원 1회 조회로 인증)
+     */
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
-    }    @Bean
+    public AuthenticationManager authenticationManager(MemberAuthenticationProvider memberAuthenticationProvider) {
+        return new ProviderManager(memberAuthenticationProvider);
+    }
+
+    /**
+     * 소셜 로그인 제공자 토큰 저장소 (노드 내부 메모리)
+     * 여러 노드 운영 시에는 auth.oauth2.authorized-client.store=redis (RedisOAuth2AuthorizedClientService)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "auth.oauth2.authorized-client.store", havingValue = "memory", matchIfMissing = true)
     public OAuth2AuthorizedClientService authorizedClientService(ClientRegistrationRepository clientRegistrationRepository) {
         return new InMemoryOAuth2AuthorizedClientService(clientRegistrationRepository);
-    }    /**
+    }
+
+    /**
      * OAuth2 로그인 시 항상 로그인 창을 표시하도록 설정 (자동 로그인 방지 강화)
      */
     @Bean
@@ -10,11 +10,17 @@ import com.agentica.user.service.SocialLogoutService;
 import com.agentica.user.service.DeleteAccountTokenService;
 import com.agentica.user.config.SocialLogoutConfig;
 import com.agentica.user.domain.member.AuthProvider;
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.exception.ServiceBusyException;
+import com.agentica.user.security.DeviceIdCookie;
+import com.agentica.user.security.JwtAuthenticationFilter;
+import com.agentica.user.security.MemberPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
@@ -24,6 +30,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -38,6 +45,7 @@ public class AuthController {
     private final SocialLogoutService socialLogoutService;
     private final SocialLogoutConfig socialLogoutConfig;
     private final DeleteAccountTokenService deleteAccountTokenService;
+    private final DeviceIdCookie deviceIdCookie;
     
     // 이메일 인증번호 전송
     @PostMapping("/send-verification-code")
@@ -96,14 +104,19 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
 }    // 로그인
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest loginRequest, 
+                                                           HttpServletRequest request,
                                                            HttpServletResponse response) {
         try {
             Authentication authentication = authService.login(loginRequest);
-            String email = authentication.getName();
-            TokenResponse tokenResponse = tokenService.createTokens(email);
+            // 인증 시 조회한 회원으로 바로 토큰 발급 (추가 조회 없음)
+            Member member = ((MemberPrincipal) authentication.getPrincipal()).getMember();
+            // 기기 ID 미지정 시 기기 ID 쿠키 사용 (같은 브라우저 재로그인은 같은 세션)
+            String deviceId = deviceIdCookie.resolve(request, loginRequest.getDeviceId());
+            TokenResponse tokenResponse = tokenService.createTokens(member, deviceId);
             
             // 쿠키에 토큰 저장 (소셜 로그인과 동일하게)
             addTokenCookies(response, tokenResponse);
+            deviceIdCookie.issue(response, deviceId);
             
             return ResponseEntity.ok(ApiResponse.success(tokenResponse));
         } catch (IllegalArgumentException e) {
@@ -111,6 +124,14 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
         }
     }
     
+    // 요청 본문(앱) 또는 refreshToken 쿠키(웹)의 Refresh Token
+    private static String resolveRefreshToken(RefreshTokenRequest body, HttpServletRequest request) {
+        if (body != null && body.getRefreshToken() != null) {
+            return body.getRefreshToken();
+        }
+        return JwtAuthenticationFilter.resolveRefreshToken(request);
+    }
+
     /**
      * 토큰을 HTTP-Only 쿠키에 저장
      */
@@ -144,6 +165,15 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }    }
 
+    // 로그인 세션(기기) 목록
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> sessions(Authentication authentication) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.error("로그인이 필요합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(tokenService.getSessions(authentication.getName())));
+    }
+
     // 비밀번호 확인
     @PostMapping("/verify-password")
     public ResponseEntity<ApiResponse<String>> verifyPassword(
@@ -162,6 +192,8 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
                 log.warn("비밀번호 확인 실패: {}", authentication.getName());
                 return ResponseEntity.badRequest().body(ApiResponse.error("현재 비밀번호가 올바르지 않습니다."));
             }
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 확인 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -170,6 +202,7 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
     }    // 일반 로그아웃
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<String>> logout(
+            @RequestBody(required = false) RefreshTokenRequest logoutRequest,
             HttpServletRequest request,
             HttpServletResponse response,
             Authentication authentication) {
@@ -178,8 +211,12 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
                 String userEmail = authentication.getName();
                 log.info("로그아웃 요청 사용자: {}", userEmail);
                 
-                // 소셜 로그아웃 처리
-                socialLogoutService.processLogout(authentication, userEmail);
+                // 소셜 로그아웃 처리 (현재 기기의 Refresh Token 만 삭제)
+                socialLogoutService.processLogout(authentication, userEmail,
+                        resolveRefreshToken(logoutRequest, request), DeviceIdCookie.read(request));
+                
+                // 현재 Access Token 폐기
+                tokenService.revokeAccessToken(JwtAuthenticationFilter.resolveToken(request));
                 
                 // Spring Security 로그아웃
                 new SecurityContextLogoutHandler().logout(request, response, authentication);
@@ -362,7 +399,9 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
             log.info("  - 제공자: {}", provider);
             
             // 2. 소셜 로그아웃 처리 (Authentication이 유효한 상태에서)
-            socialLogoutService.processLogout(authentication, userEmail);
+            socialLogoutService.processLogout(authentication, userEmail,
+                    JwtAuthenticationFilter.resolveRefreshToken(request), DeviceIdCookie.read(request));
+            tokenService.revokeAccessToken(JwtAuthenticationFilter.resolveToken(request));
             
             // 3. 세션 무효화 및 쿠키 삭제 (소셜 로그아웃 처리 후)
             new SecurityContextLogoutHandler().logout(request, response, authentication);
@@ -407,10 +446,19 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
     @PostMapping("/force-logout")
     public ResponseEntity<ApiResponse<String>> forceLogout(
             HttpServletRequest request,
-            HttpServletResponse response) {
+            HttpServletResponse response,
+            Authentication authentication) {
         try {
             log.info("강제 로그아웃 요청");
             
+            // 모든 기기의 Refresh Token 삭제
+            if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+                tokenService.forceLogout(authentication.getName());
+            }
+            
+            // 현재 Access Token 폐기
+            tokenService.revokeAccessToken(JwtAuthenticationFilter.resolveToken(request));
+            
             // 세션 무효화
             HttpSession session = request.getSession(false);
             if (session != null) {
@@ -468,6 +516,8 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
         } catch (IllegalArgumentException e) {
             log.error("비밀번호 설정 실패 - 잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 설정 중 예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -505,7 +555,10 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
             return ResponseEntity.ok(ApiResponse.success("프로필이 성공적으로 수정되었습니다."));
         } catch (IllegalArgumentException e) {
             log.error("프로필 업데이트 실패 - 잘못된 요청: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (Exception e) {
             log.error("프로필 업데이트 중 예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("프로필 업데이트 중 오류가 발생했습니다."));
@@ -590,6 +643,8 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
         } catch (IllegalArgumentException e) {
             log.error("회원탈퇴 시작 실패 - 잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("회원탈퇴 시작 중 예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -688,6 +743,8 @@ public ResponseEntity<ApiResponse<String>> join(@Valid @RequestBody JoinRequest
         } catch (IllegalArgumentException e) {
             log.error("회원탈퇴 실패 - 잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("회원탈퇴 중 예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
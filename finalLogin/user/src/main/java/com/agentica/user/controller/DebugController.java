@@ -1,6 +1,6 @@
 package com.agentica.user.controller;
 
-import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberSnapshot;
 import com.agentica.user.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +20,7 @@ public class DebugController {
     @GetMapping("/member-status/{email}")
     public ResponseEntity<Map<String, Object>> debugMemberStatus(@PathVariable String email) {
         try {
-            Member member = memberService.findByEmail(email);
+            MemberSnapshot member = memberService.findSnapshotByEmail(email);
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "email", email,
@@ -0,0 +1,31 @@
+package com.agentica.user.controller;
+
+import com.agentica.user.security.JwtKeyManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증용 공개키 목록 (JWKS)
+ * Node 에이전트, STT/TTS 서비스가 Spring 호출 없이 토큰을 직접 검증할 때 사용
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyManager keyManager;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks() {
+        // 키링 생성 시 미리 직렬화해 둔 바이트 배열을 그대로 반환
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(keyManager.current().getJwks());
+    }
+}
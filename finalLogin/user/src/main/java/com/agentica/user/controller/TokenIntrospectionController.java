@@ -0,0 +1,33 @@
+package com.agentica.user.controller;
+
+import com.agentica.user.dto.introspect.TokenIntrospectionRequest;
+import com.agentica.user.dto.introspect.TokenIntrospectionResponse;
+import com.agentica.user.response.ApiResponse;
+import com.agentica.user.service.TokenIntrospectionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 내부 서비스(에이전트 작업 워커 등)용 토큰 일괄 검증
+ * /internal/** 는 nginx 에서 외부 접근을 차단함
+ */
+@RestController
+@RequestMapping("/internal/auth")
+@RequiredArgsConstructor
+public class TokenIntrospectionController {
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    @PostMapping("/introspect/batch")
+    public ResponseEntity<ApiResponse<List<TokenIntrospectionResponse>>> introspectBatch(
+            @Valid @RequestBody TokenIntrospectionRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(tokenIntrospectionService.introspect(request.getTokens())));
+    }
+}
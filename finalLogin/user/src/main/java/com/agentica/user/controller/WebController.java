@@ -1,6 +1,6 @@
 package com.agentica.user.controller;
 
-import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberSnapshot;
 import com.agentica.user.service.MemberService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,7 +48,7 @@ public class WebController {
             }
         }        if (isLoggedIn && auth != null) {
             try {
-                Member member = memberService.findByEmail(auth.getName());
+                MemberSnapshot member = memberService.findSnapshotByEmail(auth.getName());
                 model.addAttribute("member", member);
                 model.addAttribute("canUpdate", member.canUpdate());
                 model.addAttribute("isSocialUser", member.isSocialUser());
@@ -140,7 +140,7 @@ public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResp
             return "redirect:/login";
         }
           try {
-            Member member = memberService.findByEmail(authentication.getName());
+            MemberSnapshot member = memberService.findSnapshotByEmail(authentication.getName());
             model.addAttribute("member", member);
             model.addAttribute("canUpdate", member.canUpdate());
             model.addAttribute("isSocialUser", member.isSocialUser());
@@ -237,7 +237,7 @@ public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResp
             
             // 사용자 정보 추출
             try {
-                Member member = memberService.findByEmail(auth.getName());
+                MemberSnapshot member = memberService.findSnapshotByEmail(auth.getName());
                 String redirectUrl = String.format("http://localhost:5173/?login=success&email=%s&name=%s", 
                                                   member.getEmail(), 
                                                   member.getName());
@@ -0,0 +1,9 @@
+package com.agentica.user.domain.mail;
+
+/**
+ * 발송 대기열(mail_outbox)에 쌓이는 메일 종류 → EmailService 에서 템플릿 선택
+ */
+public enum MailType {
+    // payload = 인증번호
+    VERIFICATION_CODE
+}
@@ -0,0 +1,62 @@
+package com.agentica.user.domain.mail;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열 (트랜잭션 아웃박스)
+ * 요청 트랜잭션에서 행만 추가하고, 실제 SMTP 발송은 MailOutbox 작업자가 처리
+ * 발송에 성공하거나 만료/최대 재시도에 도달하면 행 삭제 (인증번호가 남지 않도록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "mail_outbox",
+       indexes = {@Index(name = "idx_mail_outbox_next_attempt", columnList = "next_attempt_at"),
+                  @Index(name = "idx_mail_outbox_expires_at", columnList = "expires_at")})
+public class OutboxMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_type", nullable = false, length = 32)
+    private MailType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 발송 시도 시각 (작업자가 가져가면 임대 시간만큼 뒤로 미뤄 다른 작업자와 중복 발송 방지)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 이 시각까지 발송하지 못하면 폐기 (예: 인증번호 유효 시간)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public OutboxMail(MailType type, String recipient, String payload, LocalDateTime expiresAt) {
+        this.type = type;
+        this.recipient = recipient;
+        this.payload = payload;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
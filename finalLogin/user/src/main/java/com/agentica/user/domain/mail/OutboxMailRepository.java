@@ -0,0 +1,6 @@
+package com.agentica.user.domain.mail;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, Long> {
+}
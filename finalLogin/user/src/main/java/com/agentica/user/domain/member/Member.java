@@ -3,6 +3,7 @@ package com.agentica.user.domain.member;
 import com.agentica.user.dto.oauth2.OAuth2UserInfo;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -33,6 +34,11 @@ public class Member {
     @Column(name = "email_verified", nullable = false)
     private boolean emailVerified = false;
 
+    // 비밀번호 변경/탈퇴 시 증가 → 이전에 발급된 모든 Access Token 무효화
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion = 0;
+
     @Column(name = "created_at")
     private java.time.LocalDateTime createdAt;
 
@@ -67,6 +73,10 @@ public class Member {
 
     public void verifyEmail() {
         this.emailVerified = true;
+    }
+
+    public long increaseTokenVersion() {
+        return ++this.tokenVersion;
     }    public void updatePassword(String password) {
         this.password = password;
     }
@@ -0,0 +1,178 @@
+package com.agentica.user.domain.member;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이메일 → 회원 정보 2단계 조회 캐시
+ *
+ * - 1단계: 노드별 Caffeine 캐시 (크기 제한 + TTL)
+ * - 2단계: Redis (선택, auth:member:{email} JSON) → 재시작/신규 노드도 DB 를 거치지 않음
+ * - 같은 이메일의 동시 조회는 Caffeine 이 한 번만 적재 (나머지는 결과를 기다림)
+ * - 존재하지 않는 회원은 캐시하지 않음 (가입 직후 조회가 막히지 않도록)
+ * - 회원 정보 변경 시 커밋 후 evict → Redis 항목 삭제 + pub/sub 으로 다른 노드 1단계 캐시 제거
+ */
+@Slf4j
+@Component
+public class MemberCache implements MessageListener {
+
+    public static final String CHANNEL = "auth:member-cache:evict";
+    private static final String KEY_PREFIX = "auth:member:";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean broadcast;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Cache<String, MemberSnapshot> members;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public MemberCache(MemberRepository memberRepository,
+                       StringRedisTemplate redisTemplate,
+                       RedisMessageListenerContainer listenerContainer,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${auth.member-cache.max-size:10000}") long maxSize,
+                       @Value("${auth.member-cache.ttl:5m}") Duration ttl,
+                       @Value("${auth.member-cache.broadcast:true}") boolean broadcast,
+                       @Value("${auth.member-cache.redis.enabled:false}") boolean redisEnabled,
+                       @Value("${auth.member-cache.redis.ttl:30m}") Duration redisTtl) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.broadcast = broadcast;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        // cache.gets{cache=member,result=hit|miss} 등 표준 캐시 지표 + 적중률 게이지
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "member");
+        Gauge.builder("auth.member_cache.hit_ratio", members, cache -> cache.stats().hitRate())
+                .description("회원 조회 1단계 캐시 적중률")
+                .register(meterRegistry);
+        this.redisHitCounter = meterRegistry.counter("auth.member_cache.redis", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("auth.member_cache.redis", "result", "miss");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (broadcast) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * 이메일로 회원 조회 (1단계 → 2단계 → DB)
+     */
+    public Optional<MemberSnapshot> find(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(members.get(email, this::load));
+    }
+
+    /**
+     * 회원 정보가 바뀐 뒤 호출 (트랜잭션 중이면 커밋 후 제거 → 커밋 전 값을 다시 적재하지 않음)
+     */
+    public void evict(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(email);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        members.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictNow(String email) {
+        members.invalidate(email);
+        try {
+            if (redisEnabled) {
+                redisTemplate.delete(KEY_PREFIX + email);
+            }
+            if (broadcast) {
+                redisTemplate.convertAndSend(CHANNEL, email);
+            }
+        } catch (RuntimeException e) {
+            // 다른 노드/Redis 항목은 TTL 만료 후 DB 에서 다시 읽음
+            log.error("회원 캐시 무효화 전파 실패: {}", email, e);
+        }
+    }
+
+    private MemberSnapshot load(String email) {
+        if (redisEnabled) {
+            MemberSnapshot cached = readRedis(email);
+            if (cached != null) {
+                redisHitCounter.increment();
+                return cached;
+            }
+            redisMissCounter.increment();
+        }
+
+        MemberSnapshot snapshot = memberRepository.findByEmail(email)
+                .map(MemberSnapshot::from)
+                .orElse(null);
+        if (snapshot != null && redisEnabled) {
+            writeRedis(snapshot);
+        }
+        return snapshot;
+    }
+
+    // Redis 장애 시에는 2단계를 건너뛰고 DB 로 조회
+    private MemberSnapshot readRedis(String email) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+            return json != null ? objectMapper.readValue(json, MemberSnapshot.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("회원 캐시 Redis 조회 실패: {} - {}", email, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(MemberSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.getEmail(),
+                    objectMapper.writeValueAsString(snapshot), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("회원 캐시 Redis 저장 실패: {} - {}", snapshot.getEmail(), e.getMessage());
+        }
+    }
+}
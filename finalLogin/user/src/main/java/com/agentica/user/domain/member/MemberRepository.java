@@ -1,16 +1,34 @@
 package com.agentica.user.domain.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    // 트랜잭션 밖(로그인)에서 호출돼도 조회 직후 커넥션 반환 (트랜잭션 안에서는 참여)
+    @Transactional(readOnly = true)
     Optional<Member> findByEmail(String email);
     boolean existsByEmail(String email);
 
         // 🔽 이메일 전체 목록 조회용 메서드 추가
     @Query("SELECT m.email FROM Member m")
     List<String> findAllEmails();
+
+    // 토큰 버전 검사용 (엔티티 전체를 읽지 않음)
+    @Query("SELECT m.tokenVersion FROM Member m WHERE m.id = :id")
+    Long findTokenVersionById(@Param("id") Long id);
+
+    // 로그인 중 해시 재생성 - 읽은 해시가 그대로일 때만 비밀번호 컬럼만 교체
+    // (로그인 도중 비밀번호 변경/토큰 폐기가 커밋됐다면 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,50 @@
+package com.agentica.user.domain.member;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 조회 캐시에 저장하는 읽기 전용 회원 정보
+ * 엔티티와 달리 영속성 컨텍스트에 묶이지 않으므로 노드 간(Redis) 공유 가능
+ * 토큰 버전은 포함하지 않음 (토큰 발급/폐기 경로는 항상 DB 에서 엔티티를 읽음)
+ * 비밀번호 해시도 포함하지 않음 (캐시/Redis 로 복제되지 않도록, 비밀번호 검증은 DB 의 최신 해시로)
+ */
+@Getter
+@Builder
+@Jacksonized
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemberSnapshot {
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final String profileImage;
+    private final Role role;
+    private final AuthProvider provider;
+    private final boolean emailVerified;
+    private final LocalDateTime createdAt;
+
+    public static MemberSnapshot from(Member member) {
+        return MemberSnapshot.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .name(member.getName())
+                .profileImage(member.getProfileImage())
+                .role(member.getRole())
+                .provider(member.getProvider())
+                .emailVerified(member.isEmailVerified())
+                .createdAt(member.getCreatedAt())
+                .build();
+    }
+
+    public boolean canUpdate() {
+        return this.provider == AuthProvider.LOCAL;
+    }
+
+    public boolean isSocialUser() {
+        return this.provider != AuthProvider.LOCAL;
+    }
+}
@@ -0,0 +1,25 @@
+package com.agentica.user.domain.token;
+
+import java.time.Duration;
+
+/**
+ * 회원탈퇴용 임시 토큰 저장소 (auth.delete-account-token.store 로 선택)
+ *
+ * 소셜 로그아웃 후 돌아오는 리다이렉트에서 토큰으로 탈퇴할 회원을 찾음
+ * - memory: 노드 메모리 (토큰 → 이메일 + 이메일 → 토큰 색인, 만료는 해시 타이머 휠)
+ *           리다이렉트가 토큰을 만든 노드로 돌아와야 함 (단일 노드/sticky 라우팅)
+ * - redis:  키 TTL 로 만료, 어느 노드로 돌아와도 처리
+ *
+ * 회원당 토큰은 1개 (새로 만들면 이전 토큰은 폐기)
+ */
+public interface DeleteAccountTokenStore {
+
+    void save(String token, String email, Duration ttl);
+
+    /**
+     * @return 토큰의 회원 이메일 (없거나 만료되었으면 null)
+     */
+    String findEmail(String token);
+
+    void delete(String token);
+}
@@ -0,0 +1,94 @@
+package com.agentica.user.domain.token;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 메모리 회원탈퇴 임시 토큰 저장소
+ *
+ * - 이메일 → 토큰 색인으로 이전 토큰을 바로 찾아 폐기 (전체 토큰 순회 없음)
+ * - 만료는 토큰마다 예약 작업으로 처리 (정리용 전체 순회 없음, 폐기된 토큰의 예약은 바로 큐에서 제거)
+ *   조회 시에도 만료 시각을 확인하므로 예약 실행이 늦어져도 만료 토큰이 통과하지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "auth.delete-account-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryDeleteAccountTokenStore implements DeleteAccountTokenStore {
+
+    private final ConcurrentMap<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> tokenByEmail = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "delete-account-token-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemoryDeleteAccountTokenStore() {
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void save(String token, String email, Duration ttl) {
+        Entry entry = new Entry(email, System.nanoTime() + ttl.toNanos());
+        tokens.put(token, entry);
+        entry.timeout = timer.schedule(() -> expire(token, entry), ttl.toNanos(), TimeUnit.NANOSECONDS);
+
+        String previous = tokenByEmail.put(email, token);
+        if (previous != null && !previous.equals(token)) {
+            cancel(tokens.remove(previous));
+        }
+    }
+
+    @Override
+    public String findEmail(String token) {
+        Entry entry = tokens.get(token);
+        if (entry == null || entry.expiresAt - System.nanoTime() <= 0) {
+            return null;
+        }
+        return entry.email;
+    }
+
+    @Override
+    public void delete(String token) {
+        Entry entry = tokens.remove(token);
+        if (entry != null) {
+            tokenByEmail.remove(entry.email, token);
+            cancel(entry);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void expire(String token, Entry entry) {
+        if (tokens.remove(token, entry)) {
+            tokenByEmail.remove(entry.email, token);
+        }
+    }
+
+    private static void cancel(Entry entry) {
+        if (entry != null && entry.timeout != null) {
+            entry.timeout.cancel(false);
+        }
+    }
+
+    private static final class Entry {
+        private final String email;
+        private final long expiresAt;
+        private volatile ScheduledFuture<?> timeout;
+
+        private Entry(String email, long expiresAt) {
+            this.email = email;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
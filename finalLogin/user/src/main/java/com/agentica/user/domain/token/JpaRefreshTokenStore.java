@@ -0,0 +1,107 @@
+package com.agentica.user.domain.token;
+
+import com.agentica.user.housekeeping.PartitionedTables;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DB(refresh_token 테이블) Refresh Token 저장소
+ * Redis 를 쓸 수 없는 환경용, 만료된 행은 HousekeepingScheduler 가 주기적으로 정리
+ * 파티션 테이블(V10)에는 (email, device_id) 유니크 인덱스가 없으므로 저장 전 권고 잠금으로 기기당 1행 유지,
+ * 회전 시 행이 다른 파티션으로 이동하므로 회전/삭제도 같은 잠금으로 직렬화 (PartitionedTables.MEMBER_LOCK_SQL)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean partitioned;
+    private final int maxSessions;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PartitionedTables partitionedTables,
+                                @Value("${auth.refresh-token.max-sessions:5}") int maxSessions) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitioned = partitionedTables.isPartitioned(PartitionedTables.REFRESH_TOKEN);
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    @Transactional
+    public void save(String email, String deviceId, String refreshToken, Duration ttl) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        lockMember(email);
+        refreshTokenRepository.findByEmailAndDeviceId(email, deviceId)
+                .ifPresentOrElse(
+                        token -> token.updateToken(refreshToken, expiresAt),
+                        () -> {
+                            refreshTokenRepository.save(RefreshToken.builder()
+                                    .email(email)
+                                    .deviceId(deviceId)
+                                    .token(refreshToken)
+                                    .expiresAt(expiresAt)
+                                    .build());
+                            evictLeastRecentlyUsed(email);
+                        }
+                );
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(String email, String deviceId, String currentToken, String newToken, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        lockMember(email);
+        return refreshTokenRepository.rotate(email, deviceId, RefreshTokenDigest.sha256(currentToken),
+                RefreshTokenDigest.sha256(newToken), now.plus(ttl), now) == 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RefreshSession> findSessions(String email) {
+        return refreshTokenRepository.findByEmailOrderByLastUsedAtDesc(email).stream()
+                .filter(token -> !token.isExpired())
+                .map(RefreshToken::toSession)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void delete(String email, String deviceId) {
+        lockMember(email);
+        refreshTokenRepository.deleteByEmailAndDeviceId(email, deviceId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(String email) {
+        lockMember(email);
+        refreshTokenRepository.deleteByEmail(email);
+    }
+
+    private void lockMember(String email) {
+        if (partitioned) {
+            jdbcTemplate.query(PartitionedTables.MEMBER_LOCK_SQL, rs -> { }, email);
+        }
+    }
+
+    private void evictLeastRecentlyUsed(String email) {
+        List<RefreshToken> sessions = refreshTokenRepository.findByEmailOrderByLastUsedAtDesc(email);
+        if (sessions.size() > maxSessions) {
+            List<RefreshToken> evicted = sessions.subList(maxSessions, sessions.size());
+            refreshTokenRepository.deleteAll(evicted);
+            log.info("세션 수 초과로 오래된 세션 제거: email={}, {}건", email, evicted.size());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.agentica.user.domain.token;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 회원탈퇴 임시 토큰 저장소
+ *
+ * - auth:delete-account:token:<토큰> = 이메일, auth:delete-account:email:<이메일> = 토큰 (둘 다 같은 TTL)
+ * - 두 키는 클러스터에서 다른 슬롯일 수 있으므로 스크립트는 키 1개씩만 다룸
+ *   (저장 시 토큰 키를 먼저 만들고 이메일 키를 SET ... GET 으로 교체한 뒤 이전 토큰 키 삭제)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.delete-account-token.store", havingValue = "redis")
+public class RedisDeleteAccountTokenStore implements DeleteAccountTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "auth:delete-account:token:";
+    private static final String EMAIL_KEY_PREFIX = "auth:delete-account:email:";
+
+    // 이메일 키가 아직 이 토큰을 가리킬 때만 삭제 (그 사이 새 토큰이 만들어졌으면 유지)
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisDeleteAccountTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(String token, String email, Duration ttl) {
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + token, email, ttl);
+        String previous = redisTemplate.opsForValue().setGet(EMAIL_KEY_PREFIX + email, token, ttl);
+        if (previous != null && !previous.equals(token)) {
+            redisTemplate.delete(TOKEN_KEY_PREFIX + previous);
+        }
+    }
+
+    @Override
+    public String findEmail(String token) {
+        return redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + token);
+    }
+
+    @Override
+    public void delete(String token) {
+        String email = redisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + token);
+        if (email != null) {
+            redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(EMAIL_KEY_PREFIX + email), token);
+        }
+    }
+}
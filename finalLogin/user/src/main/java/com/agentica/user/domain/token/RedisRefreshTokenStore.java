@@ -0,0 +1,142 @@
+package com.agentica.user.domain.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Refresh Token 저장소
+ *
+ * - 세션: auth:refresh:{email}:{deviceId} 해시 (h=토큰 SHA-256 다이제스트, c=생성 시각, u=최근 사용 시각), TTL = Refresh Token 유효 기간
+ * - 목록: auth:refresh:{email} 정렬 집합 (deviceId, 점수=최근 사용 시각) → 세션 목록과 LRU 제거에 사용
+ *
+ * {email} 해시 태그로 한 회원의 키가 같은 슬롯에 모이므로 Lua 스크립트에서 함께 다룰 수 있음
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh:";
+
+    // 세션 저장 + 목록 갱신 + 세션 수 초과 시 가장 오래 사용하지 않은 세션 제거
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'h', ARGV[1], 'c', ARGV[3], 'u', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4])
+            local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5])
+            if excess > 0 then
+              local evicted = redis.call('ZRANGE', KEYS[2], 0, excess - 1)
+              for _, device in ipairs(evicted) do
+                redis.call('DEL', ARGV[6] .. device)
+                redis.call('ZREM', KEYS[2], device)
+              end
+            end
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return excess
+            """, Long.class);
+
+    // 저장된 다이제스트가 기대값과 같을 때만 새 토큰으로 교체 (비교와 교체를 한 번에 원자적으로 실행)
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'h') == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'h', ARGV[2], 'u', ARGV[4])
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+              redis.call('ZADD', KEYS[2], ARGV[4], ARGV[5])
+              redis.call('PEXPIRE', KEYS[2], ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSessions;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate,
+                                  @Value("${auth.refresh-token.max-sessions:5}") int maxSessions) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    public void save(String email, String deviceId, String refreshToken, Duration ttl) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(sessionKey(email, deviceId), indexKey(email)),
+                RefreshTokenDigest.sha256Base64(refreshToken), String.valueOf(ttl.toMillis()),
+                String.valueOf(System.currentTimeMillis()), deviceId, String.valueOf(maxSessions),
+                sessionKeyPrefix(email));
+    }
+
+    @Override
+    public boolean rotate(String email, String deviceId, String currentToken, String newToken, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(sessionKey(email, deviceId), indexKey(email)),
+                RefreshTokenDigest.sha256Base64(currentToken), RefreshTokenDigest.sha256Base64(newToken),
+                String.valueOf(ttl.toMillis()), String.valueOf(System.currentTimeMillis()), deviceId);
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public List<RefreshSession> findSessions(String email) {
+        Set<String> deviceIds = redisTemplate.opsForZSet().reverseRange(indexKey(email), 0, -1);
+        if (deviceIds == null) {
+            return List.of();
+        }
+
+        List<RefreshSession> sessions = new ArrayList<>(deviceIds.size());
+        for (String deviceId : deviceIds) {
+            String key = sessionKey(email, deviceId);
+            List<Object> fields = redisTemplate.opsForHash().multiGet(key, List.of("c", "u"));
+            Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            // 만료되어 사라진 세션은 목록에만 남아 있을 수 있음
+            if (fields.get(0) == null || ttlMillis == null || ttlMillis < 0) {
+                continue;
+            }
+            sessions.add(new RefreshSession(deviceId,
+                    toLocalDateTime(Long.parseLong((String) fields.get(0))),
+                    toLocalDateTime(Long.parseLong((String) fields.get(1))),
+                    toLocalDateTime(System.currentTimeMillis() + ttlMillis)));
+        }
+        return sessions;
+    }
+
+    @Override
+    public void delete(String email, String deviceId) {
+        redisTemplate.delete(sessionKey(email, deviceId));
+        redisTemplate.opsForZSet().remove(indexKey(email), deviceId);
+    }
+
+    @Override
+    public void deleteAll(String email) {
+        Set<String> deviceIds = redisTemplate.opsForZSet().range(indexKey(email), 0, -1);
+        List<String> keys = new ArrayList<>();
+        if (deviceIds != null) {
+            deviceIds.forEach(deviceId -> keys.add(sessionKey(email, deviceId)));
+        }
+        keys.add(indexKey(email));
+        redisTemplate.delete(keys);
+    }
+
+    private static String sessionKeyPrefix(String email) {
+        return KEY_PREFIX + "{" + email + "}:";
+    }
+
+    private static String sessionKey(String email, String deviceId) {
+        return sessionKeyPrefix(email) + deviceId;
+    }
+
+    private static String indexKey(String email) {
+        return KEY_PREFIX + "{" + email + "}";
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,12 @@
+package com.agentica.user.domain.token;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기기별 Refresh 세션 정보 (세션 목록 조회용, 토큰 다이제스트는 포함하지 않음)
+ */
+public record RefreshSession(String deviceId, LocalDateTime createdAt, LocalDateTime lastUsedAt, LocalDateTime expiresAt) {
+
+    // did 클레임이 없는 이전 Refresh Token 과 기존 행의 기기 ID
+    public static final String DEFAULT_DEVICE_ID = "default";
+}
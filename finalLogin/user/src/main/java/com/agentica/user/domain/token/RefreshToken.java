@@ -7,34 +7,51 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 기기별 Refresh 세션 (회원 이메일 + 기기 ID 당 1행)
+ * 기기마다 자기 행만 회전하므로 같은 회원의 동시 로그인/갱신이 서로 잠금을 기다리지 않음
+ */
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "refresh_token")
+// 유니크 제약/인덱스는 ddl-auto 로 만드는 일반 테이블용 (V10 파티션 테이블에는 없음 → 저장소가 권고 잠금으로 대신함)
+@Table(name = "refresh_token",
+       uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_email_device", columnNames = {"email", "device_id"}),
+       indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt"))
 public class RefreshToken {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false, unique = true)
-    private String token;
+    // 토큰 원문 대신 SHA-256 다이제스트 (email + device_id 로 찾은 행에서 비교만 하므로 인덱스 없음)
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private byte[] tokenHash;
     
     @Column(nullable = false)
     private String email;
     
+    @Column(name = "device_id", nullable = false, length = 64)
+    private String deviceId;
+    
     @Column(nullable = false)
     private LocalDateTime expiresAt;
     
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
+    // 세션 수 초과 시 가장 오래 사용하지 않은 세션부터 제거
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+    
     @Builder
-    public RefreshToken(String token, String email, LocalDateTime expiresAt) {
-        this.token = token;
+    public RefreshToken(String token, String email, String deviceId, LocalDateTime expiresAt) {
+        this.tokenHash = RefreshTokenDigest.sha256(token);
         this.email = email;
+        this.deviceId = deviceId;
         this.expiresAt = expiresAt;
         this.createdAt = LocalDateTime.now();
+        this.lastUsedAt = this.createdAt;
     }
     
     public boolean isExpired() {
@@ -42,8 +59,13 @@ public class RefreshToken {
     }
     
     public RefreshToken updateToken(String token, LocalDateTime expiresAt) {
-        this.token = token;
+        this.tokenHash = RefreshTokenDigest.sha256(token);
         this.expiresAt = expiresAt;
+        this.lastUsedAt = LocalDateTime.now();
         return this;
     }
+    
+    public RefreshSession toSession() {
+        return new RefreshSession(deviceId, createdAt, lastUsedAt, expiresAt);
+    }
 }
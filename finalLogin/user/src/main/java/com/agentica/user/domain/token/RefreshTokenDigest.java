@@ -0,0 +1,29 @@
+package com.agentica.user.domain.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Refresh Token 은 원문 대신 SHA-256 다이제스트(32바이트)로만 저장
+ * 인덱스 크기가 토큰 길이와 무관하게 고정되고, 저장소가 유출되어도 토큰을 재사용할 수 없음
+ */
+public final class RefreshTokenDigest {
+
+    private RefreshTokenDigest() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Redis 문자열 값용 (43자)
+    public static String sha256Base64(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
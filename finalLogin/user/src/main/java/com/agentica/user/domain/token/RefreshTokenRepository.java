@@ -6,19 +6,32 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByEmailAndDeviceId(String email, String deviceId);
     
-    Optional<RefreshToken> findByEmail(String email);
+    // 최근 사용 순 (세션 목록, 세션 수 제한)
+    List<RefreshToken> findByEmailOrderByLastUsedAtDesc(String email);
     
     @Modifying
     @Query("DELETE FROM RefreshToken r WHERE r.email = :email")
     void deleteByEmail(@Param("email") String email);
     
     @Modifying
-    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
-    void deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken r WHERE r.email = :email AND r.deviceId = :deviceId")
+    void deleteByEmailAndDeviceId(@Param("email") String email, @Param("deviceId") String deviceId);
+    
+    // 저장된 토큰이 기대값과 같고 만료 전일 때만 교체 ((email, device_id) 인덱스로 조회, 해당 기기 행만 잠금)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.tokenHash = :newTokenHash, r.expiresAt = :expiresAt, r.lastUsedAt = :now " +
+           "WHERE r.tokenHash = :currentTokenHash AND r.email = :email AND r.deviceId = :deviceId AND r.expiresAt > :now")
+    int rotate(@Param("email") String email,
+               @Param("deviceId") String deviceId,
+               @Param("currentTokenHash") byte[] currentTokenHash,
+               @Param("newTokenHash") byte[] newTokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
 }
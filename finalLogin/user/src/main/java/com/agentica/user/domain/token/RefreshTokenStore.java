@@ -0,0 +1,36 @@
+package com.agentica.user.domain.token;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기기별 Refresh Token 저장소 (auth.refresh-token.store 로 선택)
+ *
+ * - redis:        세션당 키 1개, 만료는 Redis TTL 에 위임, 회전은 Lua 스크립트로 원자적 비교-교체
+ * - jpa:          refresh_token 테이블, 회전은 조건부 UPDATE 한 번
+ * - write-behind: refresh_token 테이블, 회전을 모아서 배치 기록
+ *
+ * 회원당 세션 수는 auth.refresh-token.max-sessions 로 제한하고, 초과 시 가장 오래 사용하지 않은 세션을 제거
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 로그인 시 저장 (같은 기기의 기존 토큰은 덮어씀)
+     */
+    void save(String email, String deviceId, String refreshToken, Duration ttl);
+
+    /**
+     * 해당 기기에 저장된 토큰이 currentToken 과 같을 때만 newToken 으로 교체
+     * @return 교체 성공 여부 (이미 회전되었거나 만료/삭제된 경우 false)
+     */
+    boolean rotate(String email, String deviceId, String currentToken, String newToken, Duration ttl);
+
+    /**
+     * 유효한 세션 목록 (최근 사용 순)
+     */
+    List<RefreshSession> findSessions(String email);
+
+    void delete(String email, String deviceId);
+
+    void deleteAll(String email);
+}
@@ -0,0 +1,475 @@
+package com.agentica.user.domain.token;
+
+import com.agentica.user.housekeeping.PartitionedTables;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind DB Refresh Token 저장소 (auth.refresh-token.store=write-behind)
+ *
+ * 로그인 폭주 시 로그인/갱신마다 실행되던 동기 UPSERT 를 모아서 처리
+ * - save/rotate 는 로컬 대기 목록(pending)에 반영 후 즉시 반환, 이후 조회·회전도 pending 을 우선 사용
+ * - 백그라운드 스레드가 flush-interval 마다 또는 batch-size 개가 모이면
+ *   INSERT ... ON CONFLICT (email, device_id) DO UPDATE 를 JDBC 배치로 실행
+ * - 같은 세션의 연속 회전은 마지막 값 하나로 합쳐짐
+ * - 큐가 가득 차면 해당 요청은 동기 UPSERT 로 처리 (메모리 상한 보장)
+ * - delete(로그아웃/폐기)는 항상 동기 실행 → 폐기된 토큰이 나중에 되살아나지 않음
+ *   (pending 에 없는 세션의 회전은 DB 조회와 반영을 회원별 잠금 안에서 수행해 delete 와 겹치지 않음)
+ * - 세션 수 제한(LRU)은 기록 시점에 해당 회원 단위로 적용
+ * - 파티션 테이블(V10)은 ON CONFLICT 대상 유니크 인덱스가 없으므로 한 트랜잭션에서
+ *   회원별 권고 잠금(정렬 순서로 획득 → 교착 없음) → UPDATE → 갱신되지 않은 세션만 INSERT → 세션 수 정리,
+ *   동기 delete 도 같은 잠금 안에서 실행 (파티션 간 행 이동과 겹치면 40001 로 실패하므로)
+ *
+ * 장애 시 동작
+ * - 프로세스 비정상 종료 시 아직 기록되지 않은 회전(최대 큐 크기만큼)은 유실되고,
+ *   해당 세션의 DB 에는 직전 토큰 다이제스트가 남아 최신 Refresh Token 이 거부됨 → 재로그인 필요
+ * - 정상 종료 시에는 대기 중인 항목을 모두 기록한 뒤 종료 (@PreDestroy)
+ * - DB 오류 시 항목은 pending 에 남아 계속 사용되며 다음 주기에 재시도
+ * - 회전 결과는 다른 노드에 flush 주기만큼 늦게 보이므로 다중 노드에서는 sticky 라우팅 권장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "write-behind")
+public class WriteBehindRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO refresh_token (email, device_id, token_hash, expires_at, created_at, last_used_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (email, device_id) DO UPDATE
+            SET token_hash = EXCLUDED.token_hash, expires_at = EXCLUDED.expires_at, last_used_at = EXCLUDED.last_used_at
+            """;
+    // 최근 사용 순으로 max-sessions 개를 넘는 세션 제거
+    private static final String EVICT_SQL = """
+            DELETE FROM refresh_token
+            WHERE email = ? AND device_id NOT IN (
+                SELECT device_id FROM refresh_token WHERE email = ? ORDER BY last_used_at DESC LIMIT ?)
+            """;
+    // 파티션 테이블용 (UPSERT_SQL 대체)
+    // PartitionedTables.MEMBER_LOCK_SQL 을 여러 회원에 대해 정렬 순서로 획득
+    private static final String LOCK_MEMBERS_SQL = """
+            SELECT pg_advisory_xact_lock(hashtext('refresh_token'), hashtext(m.email))
+            FROM (SELECT DISTINCT unnest(?::text[]) AS email) m
+            ORDER BY m.email
+            """;
+    private static final String UPDATE_SQL =
+            "UPDATE refresh_token SET token_hash = ?, expires_at = ?, last_used_at = ? WHERE email = ? AND device_id = ?";
+    private static final String INSERT_SQL = """
+            INSERT INTO refresh_token (email, device_id, token_hash, expires_at, created_at, last_used_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_SQL =
+            "SELECT token_hash, expires_at, created_at, last_used_at FROM refresh_token WHERE email = ? AND device_id = ?";
+    private static final String SELECT_ALL_SQL =
+            "SELECT device_id, token_hash, expires_at, created_at, last_used_at FROM refresh_token WHERE email = ?";
+    private static final String DELETE_SQL = "DELETE FROM refresh_token WHERE email = ? AND device_id = ?";
+    private static final String DELETE_ALL_SQL = "DELETE FROM refresh_token WHERE email = ?";
+    private static final int SESSION_LOCK_STRIPES = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean partitioned;
+    private final int maxSessions;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    // 아직 DB 에 기록되지 않은 최신 상태
+    private final Map<SessionKey, PendingToken> pending = new ConcurrentHashMap<>();
+    // 기록 대기 중인 세션 (pending 항목당 최대 1개)
+    private final BlockingQueue<SessionKey> dirty;
+    // flush 와 동기 delete 의 순서 보장
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 회원(email) 단위 잠금: save / DB 기반 회전 / delete 가 서로 겹치지 않도록
+    private final ReentrantLock[] sessionLocks = new ReentrantLock[SESSION_LOCK_STRIPES];
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter flushedCounter;
+    private final Counter syncFallbackCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+
+    public WriteBehindRefreshTokenStore(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        PartitionedTables partitionedTables,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${auth.refresh-token.max-sessions:5}") int maxSessions,
+                                        @Value("${auth.refresh-token.write-behind.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${auth.refresh-token.write-behind.batch-size:200}") int batchSize,
+                                        @Value("${auth.refresh-token.write-behind.flush-interval-ms:20}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitioned = partitionedTables.isPartitioned(PartitionedTables.REFRESH_TOKEN);
+        this.maxSessions = maxSessions;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.dirty = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < sessionLocks.length; i++) {
+            sessionLocks[i] = new ReentrantLock();
+        }
+
+        Gauge.builder("auth.refresh_token.write_behind.queue.depth", dirty, BlockingQueue::size)
+                .description("DB 기록 대기 중인 Refresh Token 회전 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.refresh_token.write_behind.pending", pending, Map::size)
+                .register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("auth.refresh_token.write_behind.flushed");
+        this.syncFallbackCounter = meterRegistry.counter("auth.refresh_token.write_behind.sync_fallback");
+        this.flushFailureCounter = meterRegistry.counter("auth.refresh_token.write_behind.flush_failures");
+        this.flushTimer = meterRegistry.timer("auth.refresh_token.write_behind.flush");
+
+        this.flusher = new Thread(this::runFlusher, "refresh-token-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void save(String email, String deviceId, String refreshToken, Duration ttl) {
+        SessionKey key = new SessionKey(email, deviceId);
+        LocalDateTime now = LocalDateTime.now();
+        PendingToken token = new PendingToken(RefreshTokenDigest.sha256(refreshToken), now.plus(ttl), now, now);
+        ReentrantLock lock = sessionLock(email);
+        boolean added;
+        lock.lock();
+        try {
+            added = pending.put(key, token) == null;
+        } finally {
+            lock.unlock();
+        }
+        if (added) {
+            enqueue(key);
+        }
+    }
+
+    @Override
+    public boolean rotate(String email, String deviceId, String currentToken, String newToken, Duration ttl) {
+        SessionKey key = new SessionKey(email, deviceId);
+        byte[] currentHash = RefreshTokenDigest.sha256(currentToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1) pending 에 있으면 잠금 없이 그 값을 기준으로 회전 (compute 는 키 단위 원자 연산)
+        boolean[] result = new boolean[3]; // [회전 성공, 새로 대기 목록에 추가됨, pending 에 없음]
+        pending.compute(key, (k, existing) -> {
+            if (existing == null) {
+                result[2] = true;
+                return null;
+            }
+            PendingToken next = rotated(existing, currentHash, newToken, ttl, now);
+            result[0] = next != null;
+            return next != null ? next : existing;
+        });
+
+        // 2) pending 에 없으면 DB 가 최신 상태 (flush 완료 후에만 pending 에서 제거)
+        //    조회~반영 사이에 delete/save 가 끼어들지 않도록 회원별 잠금 안에서 처리
+        if (result[2]) {
+            ReentrantLock lock = sessionLock(email);
+            lock.lock();
+            try {
+                PendingToken loaded = load(key);
+                pending.compute(key, (k, existing) -> {
+                    PendingToken next = rotated(existing != null ? existing : loaded, currentHash, newToken, ttl, now);
+                    if (next == null) {
+                        return existing;
+                    }
+                    result[0] = true;
+                    result[1] = existing == null;
+                    return next;
+                });
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (result[1]) {
+            enqueue(key);
+        }
+        return result[0];
+    }
+
+    private PendingToken rotated(PendingToken base, byte[] currentHash, String newToken, Duration ttl, LocalDateTime now) {
+        if (base == null || !base.matches(currentHash, now)) {
+            return null;
+        }
+        return new PendingToken(RefreshTokenDigest.sha256(newToken), now.plus(ttl), base.createdAt(), now);
+    }
+
+    @Override
+    public List<RefreshSession> findSessions(String email) {
+        Map<String, RefreshSession> sessions = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            sessions.put(rs.getString("device_id"), new RefreshSession(rs.getString("device_id"),
+                    rs.getTimestamp("created_at").toLocalDateTime(),
+                    rs.getTimestamp("last_used_at").toLocalDateTime(),
+                    rs.getTimestamp("expires_at").toLocalDateTime()));
+        }, email);
+        pending.forEach((key, token) -> {
+            if (key.email().equals(email)) {
+                sessions.put(key.deviceId(), token.toSession(key.deviceId()));
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        return sessions.values().stream()
+                .filter(session -> session.expiresAt().isAfter(now))
+                .sorted(Comparator.comparing(RefreshSession::lastUsedAt).reversed())
+                .limit(maxSessions)
+                .toList();
+    }
+
+    @Override
+    public void delete(String email, String deviceId) {
+        ReentrantLock lock = sessionLock(email);
+        lock.lock();
+        flushLock.lock();
+        try {
+            pending.remove(new SessionKey(email, deviceId));
+            deleteLocked(email, DELETE_SQL, email, deviceId);
+        } finally {
+            flushLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(String email) {
+        ReentrantLock lock = sessionLock(email);
+        lock.lock();
+        flushLock.lock();
+        try {
+            pending.keySet().removeIf(key -> key.email().equals(email));
+            deleteLocked(email, DELETE_ALL_SQL, email);
+        } finally {
+            flushLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 항목을 모두 기록
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        if (!pending.isEmpty()) {
+            log.error("종료 시 기록하지 못한 Refresh Token 회전: {}건 (해당 세션은 재로그인 필요)", pending.size());
+        }
+    }
+
+    private void enqueue(SessionKey key) {
+        if (dirty.offer(key)) {
+            return;
+        }
+        // 큐가 가득 참 → 이 요청은 동기 기록
+        syncFallbackCounter.increment();
+        try {
+            flush(List.of(key));
+        } catch (RuntimeException e) {
+            // 대기열에 없는 항목은 다시 기록될 기회가 없으므로 제거하고 호출자에게 실패 전달
+            // (DB 에는 직전 토큰이 남아 있어 이전 Refresh Token 으로 다시 시도 가능)
+            pending.remove(key);
+            throw e;
+        }
+    }
+
+    // 같은 회원의 세션은 항상 같은 잠금 (deleteAll 이 잠금 하나로 회원 전체를 막을 수 있음)
+    private ReentrantLock sessionLock(String email) {
+        return sessionLocks[Math.floorMod(email.hashCode(), sessionLocks.length)];
+    }
+
+    private void runFlusher() {
+        List<SessionKey> batch = new ArrayList<>(batchSize);
+        while (running || !dirty.isEmpty()) {
+            try {
+                SessionKey first = dirty.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목부터 flush-interval 동안 또는 batch-size 가 찰 때까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (running && batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    SessionKey key = remaining > 0 ? dirty.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (key == null) {
+                        break;
+                    }
+                    batch.add(key);
+                }
+                dirty.drainTo(batch, batchSize - batch.size());
+
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<SessionKey> batch) throws InterruptedException {
+        long backoffMillis = 100;
+        while (true) {
+            try {
+                flush(batch);
+                return;
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                log.error("Refresh Token 일괄 기록 실패, {}ms 후 재시도: {}건", backoffMillis, batch.size(), e);
+                if (!running) {
+                    return;
+                }
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, 5_000);
+            }
+        }
+    }
+
+    private void flush(List<SessionKey> keys) {
+        // 기록 중에 다시 회전된 항목은 pending 에 남으므로 다시 대기열에 넣음
+        for (SessionKey key : writeBatch(keys)) {
+            enqueue(key);
+        }
+    }
+
+    /**
+     * @return 기록 도중 값이 바뀌어 아직 최신 상태가 기록되지 않은 세션 목록
+     */
+    private List<SessionKey> writeBatch(List<SessionKey> keys) {
+        flushLock.lock();
+        try {
+            Map<SessionKey, PendingToken> snapshot = new LinkedHashMap<>();
+            for (SessionKey key : keys) {
+                PendingToken token = pending.get(key);
+                if (token != null) {
+                    snapshot.put(key, token);
+                }
+            }
+            if (snapshot.isEmpty()) {
+                return List.of();
+            }
+
+            List<Object[]> rows = new ArrayList<>(snapshot.size());
+            Set<String> emails = new LinkedHashSet<>();
+            snapshot.forEach((key, token) -> {
+                rows.add(new Object[]{key.email(), key.deviceId(), token.tokenHash(), Timestamp.valueOf(token.expiresAt()),
+                        Timestamp.valueOf(token.createdAt()), Timestamp.valueOf(token.lastUsedAt())});
+                emails.add(key.email());
+            });
+            List<Object[]> evictions = emails.stream()
+                    .map(email -> new Object[]{email, email, maxSessions})
+                    .toList();
+
+            flushTimer.record(() -> {
+                if (partitioned) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        lockMembers(emails);
+                        upsertPartitioned(rows);
+                        jdbcTemplate.batchUpdate(EVICT_SQL, evictions);
+                    });
+                } else {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+                    jdbcTemplate.batchUpdate(EVICT_SQL, evictions);
+                }
+            });
+            flushedCounter.increment(rows.size());
+
+            List<SessionKey> changed = new ArrayList<>();
+            snapshot.forEach((key, token) -> {
+                if (!pending.remove(key, token)) {
+                    changed.add(key);
+                }
+            });
+            return changed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void lockMembers(Set<String> emails) {
+        String[] values = emails.toArray(String[]::new);
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(LOCK_MEMBERS_SQL);
+            statement.setArray(1, connection.createArrayOf("text", values));
+            return statement;
+        }, rs -> { });
+    }
+
+    private void deleteLocked(String email, String sql, Object... args) {
+        if (!partitioned) {
+            jdbcTemplate.update(sql, args);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query(PartitionedTables.MEMBER_LOCK_SQL, rs -> { }, email);
+            jdbcTemplate.update(sql, args);
+        });
+    }
+
+    // rows: UPSERT_SQL/INSERT_SQL 파라미터 순서 (email, device_id, token_hash, expires_at, created_at, last_used_at)
+    private void upsertPartitioned(List<Object[]> rows) {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, rows.stream()
+                .map(row -> new Object[]{row[2], row[3], row[5], row[0], row[1]})
+                .toList());
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(rows.get(i));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    private PendingToken load(SessionKey key) {
+        List<PendingToken> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) ->
+                new PendingToken(rs.getBytes("token_hash"),
+                        rs.getTimestamp("expires_at").toLocalDateTime(),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getTimestamp("last_used_at").toLocalDateTime()), key.email(), key.deviceId());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private record SessionKey(String email, String deviceId) {
+    }
+
+    private record PendingToken(byte[] tokenHash, LocalDateTime expiresAt, LocalDateTime createdAt, LocalDateTime lastUsedAt) {
+
+        boolean matches(byte[] hash, LocalDateTime now) {
+            return Arrays.equals(tokenHash, hash) && expiresAt.isAfter(now);
+        }
+
+        RefreshSession toSession(String deviceId) {
+            return new RefreshSession(deviceId, createdAt, lastUsedAt, expiresAt);
+        }
+    }
+}
@@ -9,12 +9,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "email_verification_code")
+@Table(name = "email_verification_code",
+       indexes = @Index(name = "idx_email_verification_code_expires_at", columnList = "expiresAt"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class EmailVerificationCode {
+
+    public static final int MAX_ATTEMPTS = 5;
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -57,6 +60,6 @@ public class EmailVerificationCode {
     }
     
     public boolean isMaxAttemptsReached() {
-        return attemptCount >= 5; // 최대 5번 시도
+        return attemptCount >= MAX_ATTEMPTS;
     }
 }
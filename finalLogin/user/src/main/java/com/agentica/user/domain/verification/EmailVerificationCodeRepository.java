@@ -1,9 +1,11 @@
 package com.agentica.user.domain.verification;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -19,5 +21,13 @@ public interface EmailVerificationCodeRepository extends JpaRepository<EmailVeri
     
     void deleteByEmail(String email);
     
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
+    // 최대 시도 횟수 미만일 때만 증가 (동시 시도도 행 잠금으로 직렬화) → 증가된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailVerificationCode v SET v.attemptCount = v.attemptCount + 1 " +
+           "WHERE v.id = :id AND v.attemptCount < :maxAttempts")
+    int incrementAttempt(@Param("id") Long id, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailVerificationCode v SET v.verified = true WHERE v.id = :id")
+    int markVerified(@Param("id") Long id);
 }
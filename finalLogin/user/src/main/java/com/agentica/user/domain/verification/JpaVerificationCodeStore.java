@@ -0,0 +1,83 @@
+package com.agentica.user.domain.verification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB(email_verification_code 테이블) 인증번호 저장소
+ * Redis 를 쓸 수 없는 환경용
+ */
+@Component
+@ConditionalOnProperty(name = "auth.verification-code.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationCodeRepository repository;
+
+    public JpaVerificationCodeStore(EmailVerificationCodeRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public void save(String email, String code, Duration ttl) {
+        repository.deleteByEmail(email);
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(EmailVerificationCode.builder()
+                .email(email)
+                .code(code)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public VerificationAttempt verify(String email, String code, int maxAttempts) {
+        Optional<EmailVerificationCode> found = repository.findByEmailAndVerifiedFalseOrderByCreatedAtDesc(email);
+        if (found.isEmpty()) {
+            return VerificationAttempt.of(VerificationAttempt.Status.NOT_FOUND);
+        }
+        EmailVerificationCode verificationCode = found.get();
+        if (verificationCode.getAttemptCount() >= maxAttempts) {
+            return VerificationAttempt.of(VerificationAttempt.Status.MAX_ATTEMPTS);
+        }
+        if (verificationCode.isExpired()) {
+            return VerificationAttempt.of(VerificationAttempt.Status.EXPIRED);
+        }
+
+        // 읽은 뒤 다른 요청이 먼저 시도 횟수를 채웠으면 비교하지 않음
+        if (repository.incrementAttempt(verificationCode.getId(), maxAttempts) == 0) {
+            return VerificationAttempt.of(VerificationAttempt.Status.MAX_ATTEMPTS);
+        }
+        int remaining = maxAttempts - verificationCode.getAttemptCount() - 1;
+        if (!verificationCode.getCode().equals(code)) {
+            return new VerificationAttempt(VerificationAttempt.Status.MISMATCH, remaining);
+        }
+
+        repository.markVerified(verificationCode.getId());
+        return new VerificationAttempt(VerificationAttempt.Status.VERIFIED, remaining);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String email, String code) {
+        return repository.findByEmailAndCodeAndVerifiedTrue(email, code).isPresent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasVerified(String email) {
+        return repository.existsByEmailAndVerifiedTrue(email);
+    }
+
+    @Override
+    @Transactional
+    public void delete(String email) {
+        repository.deleteByEmail(email);
+    }
+}
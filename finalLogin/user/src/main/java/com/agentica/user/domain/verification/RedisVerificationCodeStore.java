@@ -0,0 +1,100 @@
+package com.agentica.user.domain.verification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 인증번호 저장소
+ *
+ * - auth:verify:{email} 해시 (c=인증번호, a=시도 횟수, v=인증 완료 여부, e=만료 시각)
+ * - 키 TTL 은 인증번호 유효 시간의 2배 → 만료 직후에는 "만료됨" 과 "요청 없음" 을 구분해 안내
+ * - 인증 완료 시 회원가입을 마칠 때까지 auth.verification-code.verified-ttl 동안 유지
+ */
+@Component
+@ConditionalOnProperty(name = "auth.verification-code.store", havingValue = "redis")
+public class RedisVerificationCodeStore implements VerificationCodeStore {
+
+    private static final String KEY_PREFIX = "auth:verify:";
+
+    // 이전 인증번호의 시도 횟수/인증 여부가 남지 않도록 통째로 교체
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'c', ARGV[1], 'a', 0, 'v', 0, 'e', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 상태 코드는 VerificationAttempt.Status 순서 / ARGV[1]=입력 코드, ARGV[2]=최대 시도, ARGV[3]=현재 시각(ms), ARGV[4]=인증 후 유지 시간(ms)
+    private static final RedisScript<List> VERIFY_SCRIPT = RedisScript.of("""
+            local stored = redis.call('HMGET', KEYS[1], 'c', 'a', 'v', 'e')
+            if not stored[1] or stored[3] == '1' then
+              return {2, 0}
+            end
+            local max = tonumber(ARGV[2])
+            if tonumber(stored[2]) >= max then
+              return {4, 0}
+            end
+            if tonumber(stored[4]) < tonumber(ARGV[3]) then
+              return {3, 0}
+            end
+            local attempts = redis.call('HINCRBY', KEYS[1], 'a', 1)
+            if stored[1] ~= ARGV[1] then
+              return {1, max - attempts}
+            end
+            redis.call('HSET', KEYS[1], 'v', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return {0, max - attempts}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration verifiedTtl;
+
+    public RedisVerificationCodeStore(StringRedisTemplate redisTemplate,
+                                      @Value("${auth.verification-code.verified-ttl:30m}") Duration verifiedTtl) {
+        this.redisTemplate = redisTemplate;
+        this.verifiedTtl = verifiedTtl;
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(email)),
+                code, String.valueOf(expiresAt), String.valueOf(ttl.multipliedBy(2).toMillis()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VerificationAttempt verify(String email, String code, int maxAttempts) {
+        List<Long> result = redisTemplate.execute(VERIFY_SCRIPT, List.of(key(email)),
+                code, String.valueOf(maxAttempts), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(verifiedTtl.toMillis()));
+        VerificationAttempt.Status status = VerificationAttempt.Status.values()[result.get(0).intValue()];
+        return new VerificationAttempt(status, result.get(1).intValue());
+    }
+
+    @Override
+    public boolean isVerified(String email, String code) {
+        List<Object> fields = redisTemplate.opsForHash().multiGet(key(email), List.of("c", "v"));
+        return code.equals(fields.get(0)) && "1".equals(fields.get(1));
+    }
+
+    @Override
+    public boolean hasVerified(String email) {
+        return "1".equals(redisTemplate.opsForHash().get(key(email), "v"));
+    }
+
+    @Override
+    public void delete(String email) {
+        redisTemplate.delete(key(email));
+    }
+
+    private static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
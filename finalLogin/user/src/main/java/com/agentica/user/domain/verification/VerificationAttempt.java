@@ -0,0 +1,21 @@
+package com.agentica.user.domain.verification;
+
+/**
+ * 인증번호 확인 결과
+ * @param remainingAttempts 남은 시도 횟수 (MISMATCH 일 때 의미 있음)
+ */
+public record VerificationAttempt(Status status, int remainingAttempts) {
+
+    public enum Status {
+        VERIFIED,
+        MISMATCH,
+        // 요청된 인증번호가 없거나 이미 인증 완료됨
+        NOT_FOUND,
+        EXPIRED,
+        MAX_ATTEMPTS
+    }
+
+    public static VerificationAttempt of(Status status) {
+        return new VerificationAttempt(status, 0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.agentica.user.domain.verification;
+
+import java.time.Duration;
+
+/**
+ * 이메일 인증번호 저장소 (auth.verification-code.store 로 선택)
+ *
+ * - redis: 이메일당 키 1개, 만료는 Redis TTL, 시도 횟수 증가/비교/인증 완료를 Lua 스크립트 한 번으로 처리
+ * - jpa:   email_verification_code 테이블, 시도 횟수는 조건부 UPDATE 로 증가
+ *
+ * 어느 쪽이든 동시에 여러 번 확인해도 최대 시도 횟수를 넘어서 비교하지 않음
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 새 인증번호 저장 (이전 인증번호는 폐기)
+     */
+    void save(String email, String code, Duration ttl);
+
+    /**
+     * 시도 횟수 1 증가 후 비교, 일치하면 인증 완료로 표시
+     */
+    VerificationAttempt verify(String email, String code, int maxAttempts);
+
+    /**
+     * 인증 완료된 인증번호인지 확인 (회원가입 시)
+     */
+    boolean isVerified(String email, String code);
+
+    boolean hasVerified(String email);
+
+    void delete(String email);
+}
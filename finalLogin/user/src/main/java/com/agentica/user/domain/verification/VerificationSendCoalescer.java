@@ -0,0 +1,141 @@
+package com.agentica.user.domain.verification;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일별 인증번호 발송 합치기 + 재발송 대기 시간
+ *
+ * 더블 클릭/클라이언트 재시도로 같은 이메일에 연달아 들어온 요청은 발송 1회로 합침
+ * - 노드 내부: 이메일별 진행 중 발송을 ConcurrentHashMap 에 CAS(putIfAbsent/replace)로 등록
+ *   → 대기 시간 안의 요청은 새 인증번호를 만들지 않고 같은 발송 결과(성공/예외)를 그대로 받음
+ * - 클러스터: 발송하는 노드가 Redis SET NX PX 로 대기 시간 동안 선점
+ *   → 다른 노드가 이미 보냈으면 발송 생략 (Redis 장애 시에는 노드 내부 기준만 적용)
+ * - 발송에 실패하면 선점을 바로 해제 → 다음 요청은 다시 발송 시도
+ */
+@Slf4j
+@Component
+public class VerificationSendCoalescer {
+
+    private static final String KEY_PREFIX = "auth:verify-send:";
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration cooldown;
+    private final boolean redisEnabled;
+
+    public VerificationSendCoalescer(StringRedisTemplate redisTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${auth.verification-code.cooldown.window:30s}") Duration cooldown,
+                                     @Value("${auth.verification-code.cooldown.redis.enabled:true}") boolean redisEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.cooldown = cooldown;
+        this.redisEnabled = redisEnabled;
+    }
+
+    /**
+     * 대기 시간 안에 같은 이메일로 발송한 적이 없을 때만 send 실행
+     * 진행 중이거나 대기 시간 안의 발송이 있으면 그 결과를 기다렸다가 그대로 반환/전파
+     */
+    public void send(String email, Runnable send) {
+        long now = System.nanoTime();
+        InFlight mine = new InFlight(now + cooldown.toNanos());
+        while (true) {
+            InFlight current = inFlight.putIfAbsent(email, mine);
+            if (current == null) {
+                break;
+            }
+            if (current.expiresAt - now > 0) {
+                record("coalesced");
+                current.await();
+                return;
+            }
+            // 대기 시간이 지난 항목 → 교체에 성공한 요청 하나만 발송
+            if (inFlight.replace(email, current, mine)) {
+                break;
+            }
+        }
+
+        boolean acquired = false;
+        try {
+            acquired = acquireCluster(email);
+            if (acquired) {
+                send.run();
+                record("sent");
+            } else {
+                record("remote_coalesced");
+            }
+            mine.result.complete(null);
+            // 대기 시간이 지나면 표에서 제거 (메모리 정리)
+            CompletableFuture.delayedExecutor(cooldown.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> inFlight.remove(email, mine));
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(email, mine);
+            if (acquired) {
+                releaseCluster(email);
+            }
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private boolean acquireCluster(String email) {
+        if (!redisEnabled) {
+            return true;
+        }
+        try {
+            // SET key 1 NX PX cooldown
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + email, "1", cooldown));
+        } catch (RuntimeException e) {
+            log.warn("Redis 인증번호 발송 선점 실패 - 노드 내부 기준만 적용: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseCluster(String email) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + email);
+        } catch (RuntimeException e) {
+            log.warn("Redis 인증번호 발송 선점 해제 실패 (대기 시간 후 자동 만료): {}", e.getMessage());
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("auth.verification_code.send", "result", result).increment();
+    }
+
+    private static final class InFlight {
+        private final long expiresAt;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private InFlight(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private void await() {
+            try {
+                result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.agentica.user.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,4 +14,8 @@ public class LoginRequest {
     
     @NotBlank
     private String password;
+    
+    // 기기 ID (선택, 없으면 DeviceIdCookie 의 기기 ID → 쿠키도 없으면 새 ID 로 세션 생성)
+    @Pattern(regexp = "^[A-Za-z0-9._-]{1,64}$", message = "기기 ID 형식이 올바르지 않습니다.")
+    private String deviceId;
 }
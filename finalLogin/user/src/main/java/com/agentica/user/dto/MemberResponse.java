@@ -2,6 +2,7 @@ package com.agentica.user.dto;
 
 import com.agentica.user.domain.member.AuthProvider;
 import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberSnapshot;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -26,4 +27,15 @@ public class MemberResponse {
                 .canUpdate(member.canUpdate())
                 .build();
     }
+
+    public static MemberResponse from(MemberSnapshot member) {
+        return MemberResponse.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .name(member.getName())
+                .profileImage(member.getProfileImage())
+                .provider(member.getProvider())
+                .canUpdate(member.canUpdate())
+                .build();
+    }
 }
@@ -0,0 +1,28 @@
+package com.agentica.user.dto;
+
+import com.agentica.user.domain.token.RefreshSession;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 세션(기기) 목록 응답
+ */
+@Getter
+@Builder
+public class SessionResponse {
+    private String deviceId;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastUsedAt;
+    private LocalDateTime expiresAt;
+
+    public static SessionResponse from(RefreshSession session) {
+        return SessionResponse.builder()
+                .deviceId(session.deviceId())
+                .createdAt(session.createdAt())
+                .lastUsedAt(session.lastUsedAt())
+                .expiresAt(session.expiresAt())
+                .build();
+    }
+}
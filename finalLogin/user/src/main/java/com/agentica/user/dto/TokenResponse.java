@@ -10,8 +10,10 @@ public class TokenResponse {
     private String refreshToken;
     private String tokenType;
     private Long expiresIn;
+    // 다음 로그인 시 같은 세션을 재사용하려면 클라이언트가 보관 후 다시 전달
+    private String deviceId;
     
-    public static TokenResponse of(String accessToken, String refreshToken, Long expiresIn) {
-        return new TokenResponse(accessToken, refreshToken, "Bearer", expiresIn);
+    public static TokenResponse of(String accessToken, String refreshToken, Long expiresIn, String deviceId) {
+        return new TokenResponse(accessToken, refreshToken, "Bearer", expiresIn, deviceId);
     }
 }
@@ -0,0 +1,18 @@
+package com.agentica.user.dto.introspect;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검증 요청 DTO (내부 서비스 전용)
+ */
+@Getter
+@Setter
+public class TokenIntrospectionRequest {
+
+    @NotEmpty(message = "검증할 토큰 목록은 필수입니다.")
+    private List<String> tokens;
+}
@@ -0,0 +1,36 @@
+package com.agentica.user.dto.introspect;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 토큰별 검증 결과 (요청 목록과 같은 순서로 반환)
+ */
+@Getter
+@Builder
+public class TokenIntrospectionResponse {
+
+    private boolean active;
+    private Long memberId;
+    private String subject;
+    private String role;
+    private String tokenType;
+    private Long expiresAt; // epoch seconds
+
+    public static TokenIntrospectionResponse inactive() {
+        return TokenIntrospectionResponse.builder().active(false).build();
+    }
+
+    public static TokenIntrospectionResponse from(Claims claims, Object memberId, String role) {
+        return TokenIntrospectionResponse.builder()
+                .active(true)
+                .memberId(memberId instanceof Number number ? number.longValue() : null)
+                .subject(claims.getSubject())
+                .role(role)
+                // Refresh Token 은 비활성으로 응답하므로 활성 토큰은 항상 Access Token
+                .tokenType("access")
+                .expiresAt(claims.getExpiration().getTime() / 1000)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.agentica.user.exception;
 import com.agentica.user.response.ApiResponse;
 import com.agentica.user.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -100,6 +101,22 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorResponse));
     }
 
+    // 처리 용량 초과 (비밀번호 해시 대기열 포화 등) → 잠시 후 재시도 안내
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleServiceBusyException(ServiceBusyException e) {
+        log.warn("ServiceBusyException: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("SERVICE_BUSY")
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(errorResponse));
+    }
+
     // 기타 모든 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<ErrorResponse>> handleGeneralException(Exception e) {
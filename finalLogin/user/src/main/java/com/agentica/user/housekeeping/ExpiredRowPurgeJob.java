@@ -0,0 +1,44 @@
+package com.agentica.user.housekeeping;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 시각 컬럼 기준 행 삭제 (PostgreSQL ctid 로 한 번에 limit 건씩)
+ *
+ * DELETE ... WHERE ctid IN (SELECT ctid ... LIMIT n)
+ * - 한 문장이 짧게 끝나 행 잠금/WAL 이 한꺼번에 몰리지 않음 (자동 커밋, 청크마다 별도 트랜잭션)
+ * - 청크 사이에 바뀐 행은 ctid 가 달라져 이번 청크에서 빠질 뿐 다음 실행에서 다시 대상이 됨
+ */
+public class ExpiredRowPurgeJob implements HousekeepingJob {
+
+    private final String name;
+    private final String sql;
+    private final Duration retention;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param retention 만료 후 추가로 남겨 둘 시간
+     */
+    public ExpiredRowPurgeJob(String name, String table, String expiresAtColumn, Duration retention,
+                              JdbcTemplate jdbcTemplate) {
+        this.name = name;
+        this.sql = "DELETE FROM " + table + " WHERE ctid IN (SELECT ctid FROM " + table
+                + " WHERE " + expiresAtColumn + " < ? LIMIT ?)";
+        this.retention = retention;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public int purgeChunk(int limit) {
+        return jdbcTemplate.update(sql, Timestamp.valueOf(LocalDateTime.now().minus(retention)), limit);
+    }
+}
@@ -0,0 +1,56 @@
+package com.agentica.user.housekeeping;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * 만료 데이터 정리 작업 등록
+ */
+@Configuration
+public class HousekeepingConfig {
+
+    // 모든 Refresh Token 저장소(jpa/write-behind)가 쓰는 테이블 (redis 저장소일 때는 비어 있음)
+    // 파티션 테이블(V10)이면 행 삭제 대신 파티션 교체 (ctid 는 파티션마다 따로 매겨져 청크 삭제에 쓸 수 없음)
+    @Bean
+    public HousekeepingJob refreshTokenPurgeJob(JdbcTemplate jdbcTemplate,
+                                                PartitionedTables partitionedTables,
+                                                @Value("${auth.housekeeping.partitions.refresh-token.interval:1d}") Duration interval,
+                                                @Value("${auth.housekeeping.partitions.refresh-token.ahead:9d}") Duration ahead) {
+        if (partitionedTables.isPartitioned(PartitionedTables.REFRESH_TOKEN)) {
+            return rotationJob(new PartitionRotationJob("refresh-token", PartitionedTables.REFRESH_TOKEN,
+                    interval, ahead, Duration.ZERO, jdbcTemplate));
+        }
+        return new ExpiredRowPurgeJob("refresh-token", PartitionedTables.REFRESH_TOKEN, "expires_at", Duration.ZERO, jdbcTemplate);
+    }
+
+    // 인증 완료된 행은 회원가입까지 필요하므로 만료 후 verified-ttl 만큼 더 보관
+    @Bean
+    public HousekeepingJob verificationCodePurgeJob(JdbcTemplate jdbcTemplate,
+                                                    PartitionedTables partitionedTables,
+                                                    @Value("${auth.verification-code.verified-ttl:30m}") Duration verifiedTtl,
+                                                    @Value("${auth.housekeeping.partitions.verification-code.interval:1h}") Duration interval,
+                                                    @Value("${auth.housekeeping.partitions.verification-code.ahead:6h}") Duration ahead) {
+        if (partitionedTables.isPartitioned(PartitionedTables.EMAIL_VERIFICATION_CODE)) {
+            return rotationJob(new PartitionRotationJob("verification-code", PartitionedTables.EMAIL_VERIFICATION_CODE,
+                    interval, ahead, verifiedTtl, jdbcTemplate));
+        }
+        return new ExpiredRowPurgeJob("verification-code", PartitionedTables.EMAIL_VERIFICATION_CODE, "expires_at",
+                verifiedTtl, jdbcTemplate);
+    }
+
+    // 작업자가 꺼져 있거나 밀려서 유효 시간이 지난 발송 대기 메일
+    @Bean
+    public HousekeepingJob mailOutboxPurgeJob(JdbcTemplate jdbcTemplate) {
+        return new ExpiredRowPurgeJob("mail-outbox", "mail_outbox", "expires_at", Duration.ZERO, jdbcTemplate);
+    }
+
+    // 정리 주기를 기다리지 않고 시작 시 미래 파티션 확보 (오래 중단됐다 재시작한 경우 INSERT 실패 방지)
+    private static PartitionRotationJob rotationJob(PartitionRotationJob job) {
+        job.createAhead();
+        return job;
+    }
+}
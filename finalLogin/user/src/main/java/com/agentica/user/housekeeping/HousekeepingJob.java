@@ -0,0 +1,18 @@
+package com.agentica.user.housekeeping;
+
+/**
+ * 주기 정리 작업 (HousekeepingScheduler 가 실행)
+ */
+public interface HousekeepingJob {
+
+    /**
+     * 지표 태그, Redis 임대 키에 쓰이는 작업 이름
+     */
+    String name();
+
+    /**
+     * 만료 데이터를 최대 limit 건 삭제
+     * @return 삭제 건수 (limit 보다 작으면 남은 대상 없음)
+     */
+    int purgeChunk(int limit);
+}
@@ -0,0 +1,129 @@
+package com.agentica.user.housekeeping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 만료 데이터 주기 정리 (auth.housekeeping.interval-ms 마다 등록된 HousekeepingJob 순서대로 실행)
+ *
+ * - 작업마다 chunk-size 건씩 나눠 삭제하고 청크 사이에 chunk-pause-ms 만큼 쉼 (긴 잠금/WAL 급증 방지)
+ *   한 번에 max-run 을 넘기면 나머지는 다음 주기로 미룸
+ * - 여러 노드 중 한 노드만 실행: Redis SET NX PX 로 작업별 임대(lease)를 잡은 노드만 실행
+ *   임대는 해제하지 않고 만료시킴 → 한 주기에 한 번만 실행, 실행 노드가 죽어도 임대 만료 후 다른 노드가 이어받음
+ *   Redis 장애 시에는 이번 주기를 건너뜀 (정리가 늦어질 뿐 중복 실행은 없음)
+ * - 지표: auth.housekeeping.duration{job}, auth.housekeeping.purged{job}, auth.housekeeping.runs{job,result}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.housekeeping.enabled", havingValue = "true", matchIfMissing = true)
+public class HousekeepingScheduler {
+
+    private static final String LEASE_KEY_PREFIX = "auth:housekeeping:";
+
+    private final List<HousekeepingJob> jobs;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final Duration maxRun;
+    private final Duration lease;
+    private final boolean redisEnabled;
+    // 임대 값 (어느 노드가 실행 중인지 확인용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public HousekeepingScheduler(List<HousekeepingJob> jobs,
+                                 StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auth.housekeeping.chunk-size:1000}") int chunkSize,
+                                 @Value("${auth.housekeeping.chunk-pause-ms:50}") long chunkPauseMillis,
+                                 @Value("${auth.housekeeping.max-run:2m}") Duration maxRun,
+                                 @Value("${auth.housekeeping.lease:4m}") Duration lease,
+                                 @Value("${auth.housekeeping.redis.enabled:true}") boolean redisEnabled) {
+        this.jobs = jobs;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.maxRun = maxRun;
+        this.lease = lease;
+        this.redisEnabled = redisEnabled;
+        log.info("만료 데이터 정리 작업 등록: {}", jobs.stream().map(HousekeepingJob::name).toList());
+    }
+
+    @Scheduled(initialDelayString = "${auth.housekeeping.initial-delay-ms:60000}",
+               fixedDelayString = "${auth.housekeeping.interval-ms:300000}")
+    public void run() {
+        for (HousekeepingJob job : jobs) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (!acquireLease(job.name())) {
+                record(job, "skipped");
+                continue;
+            }
+            runJob(job);
+        }
+    }
+
+    private void runJob(HousekeepingJob job) {
+        long deadline = System.nanoTime() + maxRun.toNanos();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long purged = 0;
+        String result = "completed";
+        try {
+            while (true) {
+                int deleted = job.purgeChunk(chunkSize);
+                purged += deleted;
+                if (deleted < chunkSize) {
+                    break;
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    result = "truncated";
+                    log.warn("만료 데이터 정리 시간 초과 - job={}, {}건 삭제 후 다음 주기로 미룸", job.name(), purged);
+                    break;
+                }
+                Thread.sleep(chunkPauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = "interrupted";
+        } catch (RuntimeException e) {
+            result = "failed";
+            log.error("만료 데이터 정리 실패 - job={}, {}건 삭제 후 중단", job.name(), purged, e);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.housekeeping.duration", "job", job.name()));
+            meterRegistry.counter("auth.housekeeping.purged", "job", job.name()).increment(purged);
+            record(job, result);
+        }
+        if (purged > 0) {
+            log.info("만료 데이터 정리 - job={}, {}건", job.name(), purged);
+        }
+    }
+
+    private boolean acquireLease(String jobName) {
+        if (!redisEnabled) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY_PREFIX + jobName, nodeId, lease));
+        } catch (RuntimeException e) {
+            log.warn("정리 작업 임대 획득 실패, 이번 주기 건너뜀 - job={}: {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void record(HousekeepingJob job, String result) {
+        meterRegistry.counter("auth.housekeeping.runs", "job", job.name(), "result", result).increment();
+    }
+}
@@ -0,0 +1,141 @@
+package com.agentica.user.housekeeping;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * expires_at 범위 파티션 테이블 관리 (행 삭제 대신 파티션 단위로 만료)
+ *
+ * - 파티션 이름: <테이블>_p<yyyyMMddHH> (하한 시각), 범위 [하한, 하한 + interval)
+ *   V10 마이그레이션이 만든 초기 파티션과 같은 규칙
+ * - 현재 구간부터 ahead 만큼 미래 파티션을 미리 생성 (기본 파티션 없음 → 범위를 벗어난 INSERT 는 실패하므로
+ *   ahead 는 해당 데이터의 최대 유효 시간보다 길게)
+ * - 상한이 (현재 - retention) 이전인 파티션은 DETACH CONCURRENTLY 후 DROP
+ *   → 행 삭제/VACUUM 없이 정리, 분리 중에도 다른 파티션의 읽기/쓰기는 막지 않음
+ *   분리 도중 중단된 파티션(detach pending)은 다음 실행에서 FINALIZE 후 삭제
+ */
+@Slf4j
+public class PartitionRotationJob implements HousekeepingJob {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname, i.inhdetachpending, greatest(c.reltuples, 0)::bigint AS estimated_rows
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = ?::regclass
+            """;
+
+    private final String name;
+    private final String table;
+    private final Duration interval;
+    private final Duration ahead;
+    private final Duration retention;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param interval 파티션 하나의 범위 (1시간 단위)
+     * @param ahead 미리 만들어 둘 미래 범위
+     * @param retention 만료 후 추가로 남겨 둘 시간
+     */
+    public PartitionRotationJob(String name, String table, Duration interval, Duration ahead, Duration retention,
+                                JdbcTemplate jdbcTemplate) {
+        if (interval.toMinutes() < 60 || interval.toMinutes() % 60 != 0) {
+            throw new IllegalArgumentException("파티션 범위는 1시간 단위여야 합니다: " + interval);
+        }
+        this.name = name;
+        this.table = table;
+        this.interval = interval;
+        this.ahead = ahead;
+        this.retention = retention;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 미래 파티션 생성 + 만료 파티션 삭제
+     * @return 삭제한 파티션의 추정 행 수 (pg_class.reltuples)
+     */
+    @Override
+    public int purgeChunk(int limit) {
+        createAhead();
+        return dropExpired();
+    }
+
+    public void createAhead() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime end = now.plus(ahead);
+        for (LocalDateTime lower = floor(now); lower.isBefore(end); lower = lower.plus(interval)) {
+            LocalDateTime upper = lower.plus(interval);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(lower) + " PARTITION OF " + table
+                        + " FOR VALUES FROM ('" + BOUND.format(lower) + "') TO ('" + BOUND.format(upper) + "')");
+            } catch (RuntimeException e) {
+                // 다른 노드가 동시에 만들었거나 범위가 겹치는 파티션이 있음 → 다음 파티션 계속
+                log.warn("파티션 생성 실패 - {} [{}, {}): {}", partitionName(lower), lower, upper, e.getMessage());
+            }
+        }
+    }
+
+    private int dropExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long dropped = 0;
+        for (Partition partition : partitions()) {
+            LocalDateTime lower = lowerBound(partition.name());
+            if (lower == null || lower.plus(interval).isAfter(cutoff)) {
+                continue;
+            }
+            if (!partition.detachPending()) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition.name() + " CONCURRENTLY");
+            } else {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition.name() + " FINALIZE");
+            }
+            jdbcTemplate.execute("DROP TABLE " + partition.name());
+            dropped += partition.estimatedRows();
+            log.info("만료 파티션 삭제 - {} (약 {}건)", partition.name(), partition.estimatedRows());
+        }
+        return (int) Math.min(dropped, Integer.MAX_VALUE);
+    }
+
+    private List<Partition> partitions() {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) -> new Partition(
+                rs.getString("relname"), rs.getBoolean("inhdetachpending"), rs.getLong("estimated_rows")), table);
+    }
+
+    // 1970-01-01 00:00 기준 interval 단위로 내림 (1일 = 자정, 1시간 = 정시)
+    private LocalDateTime floor(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        long step = interval.toSeconds();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(seconds, step) * step, 0, ZoneOffset.UTC);
+    }
+
+    private String partitionName(LocalDateTime lower) {
+        return table + "_p" + SUFFIX.format(lower);
+    }
+
+    private LocalDateTime lowerBound(String partitionName) {
+        String prefix = table + "_p";
+        if (!partitionName.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(partitionName.substring(prefix.length()), SUFFIX);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private record Partition(String name, boolean detachPending, long estimatedRows) {
+    }
+}
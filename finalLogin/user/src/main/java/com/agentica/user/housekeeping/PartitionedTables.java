@@ -0,0 +1,57 @@
+package com.agentica.user.housekeeping;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 만료 시각(expires_at) 범위 파티션 테이블 확인 (V10 마이그레이션 적용 여부, 시작 시 1회)
+ *
+ * 파티션 테이블은 (email, device_id) 같은 전역 유니크 인덱스를 둘 수 없으므로
+ * 저장소는 이 값을 보고 ON CONFLICT 대신 권고 잠금(pg_advisory_xact_lock) + UPDATE/INSERT 로 기록
+ */
+@Slf4j
+@Component
+public class PartitionedTables {
+
+    public static final String REFRESH_TOKEN = "refresh_token";
+    public static final String EMAIL_VERIFICATION_CODE = "email_verification_code";
+
+    // 파티션 refresh_token 의 회원(email) 단위 직렬화 (트랜잭션 종료 시 자동 해제)
+    // 회전은 expires_at 을 바꿔 행을 다른 파티션으로 옮기므로, 같은 행을 동시에 UPDATE/DELETE 하면
+    // 재확인 없이 40001(tuple to be locked was already moved to another partition)로 실패함
+    // → 저장/회전/삭제/세션 수 제한 정리 모두 이 잠금을 먼저 획득 (정리는 같은 회원의 다른 기기 행도 지우므로 회원 단위)
+    public static final String MEMBER_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('refresh_token'), hashtext(?))";
+
+    private static final String PARTITIONED_SQL = """
+            SELECT c.relname FROM pg_partitioned_table p
+            JOIN pg_class c ON c.oid = p.partrelid
+            WHERE c.relnamespace = current_schema()::regnamespace AND c.relname IN (?, ?)
+            """;
+
+    private final Set<String> partitioned;
+
+    public PartitionedTables(JdbcTemplate jdbcTemplate) {
+        this.partitioned = Set.copyOf(detect(jdbcTemplate));
+        if (!partitioned.isEmpty()) {
+            log.info("expires_at 범위 파티션 테이블: {}", partitioned);
+        }
+    }
+
+    public boolean isPartitioned(String table) {
+        return partitioned.contains(table);
+    }
+
+    private static List<String> detect(JdbcTemplate jdbcTemplate) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(PARTITIONED_SQL, String.class, REFRESH_TOKEN, EMAIL_VERIFICATION_CODE);
+    }
+}
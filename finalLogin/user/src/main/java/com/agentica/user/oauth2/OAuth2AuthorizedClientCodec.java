@@ -0,0 +1,111 @@
+package com.agentica.user.oauth2;
+
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * OAuth2AuthorizedClient 바이너리 직렬화
+ *
+ * - ClientRegistration 은 설정에서 다시 찾을 수 있으므로 registrationId 만 기록
+ * - 시각은 epoch 밀리초 (없으면 -1), 문자열은 modified UTF-8
+ * - 첫 바이트는 형식 버전 (알 수 없는 버전은 읽지 않고 null → 재로그인 시 다시 저장)
+ *
+ * [버전][registrationId][principalName]
+ * [액세스 토큰 값][발급][만료][scope 개수][scope...]  (종류는 Spring Security 가 정의한 Bearer 뿐이라 생략)
+ * [리프레시 토큰 유무][값][발급][만료]
+ */
+public final class OAuth2AuthorizedClientCodec {
+
+    private static final byte VERSION = 1;
+    private static final long NO_INSTANT = -1L;
+
+    private OAuth2AuthorizedClientCodec() {
+    }
+
+    public static byte[] encode(OAuth2AuthorizedClient client) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(client.getClientRegistration().getRegistrationId());
+            out.writeUTF(client.getPrincipalName());
+
+            OAuth2AccessToken accessToken = client.getAccessToken();
+            out.writeUTF(accessToken.getTokenValue());
+            writeInstant(out, accessToken.getIssuedAt());
+            writeInstant(out, accessToken.getExpiresAt());
+            out.writeShort(accessToken.getScopes().size());
+            for (String scope : accessToken.getScopes()) {
+                out.writeUTF(scope);
+            }
+
+            OAuth2RefreshToken refreshToken = client.getRefreshToken();
+            out.writeBoolean(refreshToken != null);
+            if (refreshToken != null) {
+                out.writeUTF(refreshToken.getTokenValue());
+                writeInstant(out, refreshToken.getIssuedAt());
+                writeInstant(out, refreshToken.getExpiresAt());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param registrations registrationId → ClientRegistration (설정에서 빠진 제공자면 null)
+     * @return 형식 버전이 다르거나 제공자를 찾을 수 없으면 null
+     */
+    public static OAuth2AuthorizedClient decode(byte[] data, Function<String, ClientRegistration> registrations) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+            ClientRegistration registration = registrations.apply(in.readUTF());
+            if (registration == null) {
+                return null;
+            }
+            String principalName = in.readUTF();
+
+            String accessTokenValue = in.readUTF();
+            Instant accessIssuedAt = readInstant(in);
+            Instant accessExpiresAt = readInstant(in);
+            int scopeCount = in.readUnsignedShort();
+            Set<String> scopes = new LinkedHashSet<>(scopeCount * 2);
+            for (int i = 0; i < scopeCount; i++) {
+                scopes.add(in.readUTF());
+            }
+            OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                    OAuth2AccessToken.TokenType.BEARER, accessTokenValue, accessIssuedAt, accessExpiresAt, scopes);
+
+            OAuth2RefreshToken refreshToken = null;
+            if (in.readBoolean()) {
+                refreshToken = new OAuth2RefreshToken(in.readUTF(), readInstant(in), readInstant(in));
+            }
+            return new OAuth2AuthorizedClient(registration, principalName, accessToken, refreshToken);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant != null ? instant.toEpochMilli() : NO_INSTANT);
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        long millis = in.readLong();
+        return millis != NO_INSTANT ? Instant.ofEpochMilli(millis) : null;
+    }
+}
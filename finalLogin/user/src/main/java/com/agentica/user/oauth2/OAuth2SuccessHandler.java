@@ -1,9 +1,9 @@
 package com.agentica.user.oauth2;
 
 import com.agentica.user.domain.member.Member;
-import com.agentica.user.domain.token.RefreshToken;
-import com.agentica.user.domain.token.RefreshTokenRepository;
-import com.agentica.user.security.JwtTokenProvider;
+import com.agentica.user.dto.TokenResponse;
+import com.agentica.user.security.DeviceIdCookie;
+import com.agentica.user.service.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -14,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
@@ -22,8 +21,8 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     
-    private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenService tokenService;
+    private final DeviceIdCookie deviceIdCookie;
     private static final Logger log = LoggerFactory.getLogger(OAuth2SuccessHandler.class);
       @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -44,17 +43,18 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             log.info("🟢 네이버 OAuth2 로그인 성공 - 특별 처리 시작");
         }
         
-        String accessToken = jwtTokenProvider.createAccessToken(member.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(member.getEmail());
+        // 토큰 생성 및 Refresh Token 저장 (같은 브라우저의 재로그인은 기기 ID 쿠키로 같은 세션 사용)
+        String deviceId = deviceIdCookie.resolve(request, null);
+        TokenResponse tokens = tokenService.createTokens(member, deviceId);
+        String accessToken = tokens.getAccessToken();
+        String refreshToken = tokens.getRefreshToken();
         
         log.info("🎫 JWT 토큰 생성 완료 - Access Token 길이: {}", accessToken.length());
         
-        // Refresh Token을 데이터베이스에 저장
-        saveRefreshToken(member.getEmail(), refreshToken);
-        
         // HTTP-Only 쿠키에 토큰 저장 (보안을 위해)
         response.addCookie(createCookie("accessToken", accessToken, 1800)); // 30분
         response.addCookie(createCookie("refreshToken", refreshToken, 604800)); // 7일
+        deviceIdCookie.issue(response, deviceId);
         
         try {
             // URL 인코딩으로 한글 이름 안전하게 처리
@@ -92,20 +92,4 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         cookie.setMaxAge(maxAge);
         return cookie;
     }
-    
-    private void saveRefreshToken(String email, String refreshToken) {
-        refreshTokenRepository.findByEmail(email)
-                .ifPresentOrElse(
-                    token -> token.updateToken(refreshToken, 
-                        LocalDateTime.now().plusDays(7)), // 7일 만료
-                    () -> {
-                        RefreshToken newToken = RefreshToken.builder()
-                                .email(email)
-                                .token(refreshToken)
-                                .expiresAt(LocalDateTime.now().plusDays(7))
-                                .build();
-                        refreshTokenRepository.save(newToken);
-                    }
-                );
-    }
 }
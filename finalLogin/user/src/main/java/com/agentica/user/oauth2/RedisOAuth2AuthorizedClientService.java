@@ -0,0 +1,168 @@
+package com.agentica.user.oauth2;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Redis 소셜 로그인 제공자 토큰 저장소 (노드 재시작/다른 노드에서도 소셜 로그아웃·연결 해제 가능)
+ *
+ * - auth:oauth2:client:<registrationId>:<principalName> = OAuth2AuthorizedClientCodec 바이너리
+ * - TTL 은 리프레시 토큰 만료(없으면 액세스 토큰 만료)까지, 만료 정보가 없으면 설정값
+ * - 노드별 Caffeine 캐시로 같은 회원의 반복 조회는 Redis 왕복 없이 처리
+ * - 저장/삭제 시 Redis pub/sub 으로 다른 노드 캐시 항목을 무효화 (놓친 경우 캐시 TTL 후 다시 읽음)
+ * - Redis 장애 시 로그인/로그아웃을 막지 않도록 현재 노드 캐시만으로 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.oauth2.authorized-client.store", havingValue = "redis")
+public class RedisOAuth2AuthorizedClientService implements OAuth2AuthorizedClientService, MessageListener {
+
+    public static final String CHANNEL = "auth:oauth2-client:events";
+
+    private static final String KEY_PREFIX = "auth:oauth2:client:";
+
+    private final ClientRegistrationRepository clientRegistrationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration defaultTtl;
+    private final Cache<String, OAuth2AuthorizedClient> localCache;
+    // 자기 자신이 보낸 무효화 메시지는 무시 (방금 저장한 항목을 지우지 않도록)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisOAuth2AuthorizedClientService(ClientRegistrationRepository clientRegistrationRepository,
+                                              StringRedisTemplate redisTemplate,
+                                              RedisMessageListenerContainer listenerContainer,
+                                              @Value("${auth.oauth2.authorized-client.ttl:30d}") Duration defaultTtl,
+                                              @Value("${auth.oauth2.authorized-client.cache-size:10000}") long cacheSize,
+                                              @Value("${auth.oauth2.authorized-client.cache-ttl:5m}") Duration cacheTtl) {
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.defaultTtl = defaultTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OAuth2AuthorizedClient> T loadAuthorizedClient(String clientRegistrationId, String principalName) {
+        String key = key(clientRegistrationId, principalName);
+        OAuth2AuthorizedClient cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        byte[] data;
+        try {
+            data = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(bytes(key)));
+        } catch (RuntimeException e) {
+            log.warn("Redis 소셜 토큰 조회 실패: {} - {}", key, e.getMessage());
+            return null;
+        }
+        if (data == null) {
+            return null;
+        }
+        OAuth2AuthorizedClient client = OAuth2AuthorizedClientCodec.decode(
+                data, clientRegistrationRepository::findByRegistrationId);
+        if (client != null) {
+            localCache.put(key, client);
+        }
+        return (T) client;
+    }
+
+    @Override
+    public void saveAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
+        String key = key(authorizedClient.getClientRegistration().getRegistrationId(), principal.getName());
+        localCache.put(key, authorizedClient);
+
+        byte[] data = OAuth2AuthorizedClientCodec.encode(authorizedClient);
+        Duration ttl = ttl(authorizedClient);
+        try {
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(bytes(key), data, Expiration.from(ttl),
+                            SetOption.upsert()));
+            publish(key);
+        } catch (RuntimeException e) {
+            log.warn("Redis 소셜 토큰 저장 실패 - 현재 노드 캐시만 사용: {} - {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void removeAuthorizedClient(String clientRegistrationId, String principalName) {
+        String key = key(clientRegistrationId, principalName);
+        localCache.invalidate(key);
+        try {
+            redisTemplate.delete(key);
+            publish(key);
+        } catch (RuntimeException e) {
+            log.warn("Redis 소셜 토큰 삭제 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            log.warn("소셜 토큰 무효화 메시지 형식 오류: {}", body);
+            return;
+        }
+        if (!nodeId.equals(body.substring(0, separator))) {
+            localCache.invalidate(body.substring(separator + 1));
+        }
+    }
+
+    private void publish(String key) {
+        redisTemplate.convertAndSend(CHANNEL, nodeId + "\n" + key);
+    }
+
+    // 액세스 토큰이 만료돼도 리프레시 토큰으로 연결 해제할 수 있도록 더 늦은 만료 시각까지 보관
+    private Duration ttl(OAuth2AuthorizedClient client) {
+        Instant expiresAt = client.getRefreshToken() != null
+                ? client.getRefreshToken().getExpiresAt()
+                : client.getAccessToken().getExpiresAt();
+        if (expiresAt == null) {
+            return defaultTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        return remaining.compareTo(Duration.ofSeconds(1)) > 0 ? remaining : Duration.ofSeconds(1);
+    }
+
+    private static String key(String clientRegistrationId, String principalName) {
+        return KEY_PREFIX + clientRegistrationId + ":" + principalName;
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
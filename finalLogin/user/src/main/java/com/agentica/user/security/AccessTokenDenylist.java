@@ -0,0 +1,166 @@
+package com.agentica.user.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Access Token 폐기 목록 (jti 단위)
+ *
+ * - 원본: Redis auth:denylist:{jti}, TTL = 토큰 남은 수명
+ * - 각 노드: 로컬 블룸 필터 (Redis pub/sub 으로 다른 노드의 폐기도 반영)
+ * - 요청 경로는 블룸 필터에 걸린 경우에만 Redis 를 조회
+ *
+ * 블룸 필터는 삭제가 불가능하므로 주기적으로 Redis 를 SCAN 해 새로 만들고 교체함
+ * (만료된 jti 정리 + 놓친 pub/sub 메시지 보정)
+ * - 폐기는 Redis 기록 → 필터 추가 순서 (재생성 시작 전에 추가된 jti 는 SCAN 에 반드시 포함)
+ * - 첫 재생성이 끝나기 전(빈 필터)에는 모든 jti 를 Redis 에서 직접 확인하고, 확인할 수 없으면 거부
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements TokenRevocationPolicy, MessageListener {
+
+    public static final String KEY_PREFIX = "auth:denylist:";
+    public static final String CHANNEL = "auth:denylist:events";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile RevokedTokenBloomFilter bloomFilter;
+    // 재생성 중에 들어온 폐기도 새 필터에 반영하기 위한 참조
+    private volatile RevokedTokenBloomFilter rebuilding;
+    // 첫 재생성 완료 전에는 블룸 필터가 비어 있어 신뢰할 수 없음
+    private volatile boolean ready;
+
+    public AccessTokenDenylist(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               @Value("${jwt.denylist.enabled:true}") boolean enabled,
+                               @Value("${jwt.denylist.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${jwt.denylist.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new RevokedTokenBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * jti 폐기 (토큰 만료 시각까지만 보관)
+     */
+    public void revoke(String jti, Date expiration) {
+        if (!enabled || jti == null || expiration == null) {
+            return;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+
+        // Redis 에 먼저 기록해야 그 사이 시작된 재생성의 SCAN 이 이 jti 를 놓치지 않음
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(remainingMillis));
+        } catch (RuntimeException e) {
+            log.error("Access Token 폐기 정보를 Redis 에 저장하지 못했습니다: jti={}", jti, e);
+        }
+        // Redis 장애 시에도 최소한 이 노드에서는 즉시 차단
+        add(jti);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, jti);
+            log.info("Access Token 폐기: jti={}, 남은 수명={}초", jti, remainingMillis / 1000);
+        } catch (RuntimeException e) {
+            log.error("Access Token 폐기 전파 실패: jti={}", jti, e);
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (jti 없는 이전 토큰은 개별 폐기 대상이 아님)
+     */
+    @Override
+    public boolean isRevoked(Claims claims) {
+        if (!enabled) {
+            return false;
+        }
+        String jti = claims.getId();
+        if (jti == null || (ready && !bloomFilter.mightContain(jti))) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (RuntimeException e) {
+            // 블룸 필터에 걸렸거나 필터가 아직 준비되지 않은 토큰은 확인 불가 시 거부 (fail closed)
+            log.warn("폐기 여부 확인 실패, 토큰 거부: jti={}, {}", jti, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis 의 현재 폐기 목록으로 블룸 필터 재생성 (시작 직후 + 주기 실행)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.denylist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        RevokedTokenBloomFilter fresh = new RevokedTokenBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        int count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                fresh.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+            bloomFilter = fresh;
+            ready = true;
+            log.debug("폐기 토큰 블룸 필터 재생성: {}건", count);
+        } catch (RuntimeException e) {
+            log.warn("폐기 토큰 블룸 필터 재생성 실패, 기존 필터 유지: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void add(String jti) {
+        RevokedTokenBloomFilter current = bloomFilter;
+        current.put(jti);
+        RevokedTokenBloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(jti);
+        }
+        // 추가하는 사이 재생성이 끝나 필터가 교체됐으면 새 필터에도 반영
+        RevokedTokenBloomFilter swapped = bloomFilter;
+        if (swapped != current) {
+            swapped.put(jti);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.agentica.user.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * nginx auth_request 전용 토큰 검증 엔드포인트 (GET /internal/auth/verify)
+ *
+ * Spring Security 필터 체인, 세션, DispatcherServlet/Thymeleaf 를 거치지 않도록
+ * 서블릿 필터 단계에서 바로 응답하고 체인을 진행하지 않음
+ *
+ * - 204: 유효한 Access Token → X-User-Id / X-User-Email / X-User-Role 헤더
+ * - 401: 토큰 없음, 서명/만료 검증 실패, Access Token 이 아닌 토큰
+ *
+ * DB 를 조회하지 않고 서명과 클레임만으로 판단
+ */
+@RequiredArgsConstructor
+public class AuthVerifyFilter implements Filter {
+
+    public static final String VERIFY_PATH = "/internal/auth/verify";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+
+        if (!"GET".equals(request.getMethod())) {
+            response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String token = JwtAuthenticationFilter.resolveToken(request);
+        Claims claims = token != null ? jwtTokenProvider.verifyAccessToken(token) : null;
+
+        // Refresh Token 과 권한 클레임이 없는 이전 형식 토큰은 거부
+        String role = claims != null ? claims.get(JwtTokenProvider.CLAIM_ROLE, String.class) : null;
+        if (role == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        Object memberId = claims.get(JwtTokenProvider.CLAIM_MEMBER_ID);
+        response.setHeader("X-User-Id", String.valueOf(memberId));
+        response.setHeader("X-User-Email", claims.getSubject());
+        response.setHeader("X-User-Role", role);
+        response.setHeader("Cache-Control", "no-store");
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+}
@@ -1,7 +1,7 @@
 package com.agentica.user.security;
 
-import com.agentica.user.domain.member.Member;
-import com.agentica.user.domain.member.MemberRepository;
+import com.agentica.user.domain.member.MemberCache;
+import com.agentica.user.domain.member.MemberSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -16,16 +16,18 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(email)
+        // 로그인과 레거시 토큰 인증 모두 거치므로 회원 캐시로 조회
+        MemberSnapshot member = memberCache.find(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
         return User.builder()
                 .username(member.getEmail())
-                .password(member.getPassword() != null ? member.getPassword() : "")
+                // 토큰 인증 전용 (비밀번호 검증은 MemberAuthenticationProvider 가 DB 에서 처리)
+                .password("")
                 .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name())))
                 .build();
     }
@@ -0,0 +1,67 @@
+package com.agentica.user.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 브라우저 기기 ID 쿠키
+ *
+ * - 요청에 deviceId 가 없는 로그인(웹 폼, 소셜 로그인)은 이 쿠키의 기기 ID 로 세션을 만들어
+ *   같은 브라우저에서 다시 로그인해도 세션이 늘어나지 않게 함 (휴대폰/음성 클라이언트 세션이 LRU 로 밀려나지 않도록)
+ * - 쿠키가 없거나 형식이 잘못됐으면 새 ID 를 발급하고, 로그인할 때마다 만료 시각을 연장
+ * - 로그아웃 시에도 삭제하지 않음 (다음 로그인에서 같은 세션 재사용)
+ */
+@Component
+public class DeviceIdCookie {
+
+    public static final String COOKIE_NAME = "deviceId";
+
+    private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
+
+    private final int maxAgeSeconds;
+
+    public DeviceIdCookie(@Value("${auth.device-cookie.max-age:365d}") Duration maxAge) {
+        this.maxAgeSeconds = (int) Math.min(Integer.MAX_VALUE, maxAge.toSeconds());
+    }
+
+    /**
+     * 요청에서 지정한 기기 ID → 기기 ID 쿠키 → 새 ID 순으로 결정
+     */
+    public String resolve(HttpServletRequest request, String requestedDeviceId) {
+        if (requestedDeviceId != null) {
+            return requestedDeviceId;
+        }
+        String cookieDeviceId = read(request);
+        return cookieDeviceId != null ? cookieDeviceId : UUID.randomUUID().toString();
+    }
+
+    public void issue(HttpServletResponse response, String deviceId) {
+        Cookie cookie = new Cookie(COOKIE_NAME, deviceId);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(false); // 개발환경
+        cookie.setPath("/");
+        cookie.setMaxAge(maxAgeSeconds);
+        response.addCookie(cookie);
+    }
+
+    // 형식이 올바른 기기 ID 쿠키 값, 없으면 null
+    public static String read(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                String value = cookie.getValue();
+                return value != null && DEVICE_ID_PATTERN.matcher(value).matches() ? value : null;
+            }
+        }
+        return null;
+    }
+}
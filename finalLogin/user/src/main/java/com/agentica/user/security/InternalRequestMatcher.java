@@ -0,0 +1,59 @@
+package com.agentica.user.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 내부 서비스 요청 판별 (/internal/** 를 nginx 차단에만 의존하지 않도록 앱에서도 검사)
+ *
+ * - 접속 주소(프록시 헤더 아님)가 auth.internal.allowed-networks 대역이어야 함 (기본: 루프백만)
+ * - auth.internal.shared-secret 이 설정되어 있으면 X-Internal-Secret 헤더도 일치해야 함
+ *   (개발 환경처럼 앱 포트가 직접 노출되거나 Docker 게이트웨이를 거치는 경우 대역만으로는 구분 불가)
+ */
+@Slf4j
+@Component
+public class InternalRequestMatcher implements RequestMatcher {
+
+    public static final String SECRET_HEADER = "X-Internal-Secret";
+
+    private final List<IpAddressMatcher> allowedNetworks;
+    private final byte[] sharedSecret;
+
+    public InternalRequestMatcher(@Value("${auth.internal.allowed-networks:127.0.0.1/32,::1/128}") String[] allowedNetworks,
+                                  @Value("${auth.internal.shared-secret:}") String sharedSecret) {
+        this.allowedNetworks = Arrays.stream(allowedNetworks)
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+        this.sharedSecret = StringUtils.hasText(sharedSecret) ? sharedSecret.getBytes(StandardCharsets.UTF_8) : null;
+        if (this.sharedSecret == null) {
+            log.warn("auth.internal.shared-secret 미설정 - 내부 API 는 접속 주소 대역({})만으로 제한됩니다.",
+                    String.join(", ", allowedNetworks));
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (remoteAddress == null || allowedNetworks.stream().noneMatch(network -> network.matches(remoteAddress))) {
+            return false;
+        }
+        if (sharedSecret == null) {
+            return true;
+        }
+        String secret = request.getHeader(SECRET_HEADER);
+        // 상수 시간 비교 (응답 시간으로 비밀값을 추측하지 못하도록)
+        return secret != null && MessageDigest.isEqual(sharedSecret, secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.agentica.user.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -18,7 +20,13 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtTokenProvider jwtTokenProvider;
+    // true: 토큰 클레임만으로 인증 (DB 조회 없음)
+    private final boolean statelessAuthentication;
+    // 무상태 모드에서도 회원을 DB에서 다시 조회하는 민감한 경로 패턴
+    private final String[] memberLookupPaths;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -26,10 +34,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         String token = resolveToken(request);
+        // 서명 검증은 요청당 한 번만 수행하고, 파싱된 클레임을 그대로 재사용
+        // Refresh Token 은 인증에 사용할 수 없음 (회원 토큰 일괄 폐기 후에도 탈취된 Refresh Token 으로 접근하지 못하도록)
+        Claims claims = token != null ? jwtTokenProvider.verifyAccessToken(token) : null;
         
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        if (claims != null) {
             try {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                Authentication authentication = resolveAuthentication(claims, request);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (UsernameNotFoundException e) {
                 // 삭제된 사용자의 토큰인 경우 - 우아하게 처리
@@ -52,6 +63,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 무상태 모드면 클레임으로, 민감한 경로이거나 이전 형식 토큰이면 DB 조회로 Authentication 생성
+     */
+    private Authentication resolveAuthentication(Claims claims, HttpServletRequest request) {
+        if (statelessAuthentication && !requiresMemberLookup(request)) {
+            Authentication authentication = jwtTokenProvider.getStatelessAuthentication(claims);
+            if (authentication != null) {
+                return authentication;
+            }
+        }
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    private boolean requiresMemberLookup(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (String pattern : memberLookupPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 인증 관련 쿠키 삭제
      */
@@ -75,7 +109,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private boolean isAjaxRequest(HttpServletRequest request) {
         return "XMLHttpRequest".equals(request.getHeader("X-Requested-With")) ||
                request.getHeader("Accept") != null && request.getHeader("Accept").contains("application/json");
-    }private String resolveToken(HttpServletRequest request) {
+    }
+
+    /**
+     * Authorization 헤더(Bearer) 또는 accessToken 쿠키에서 토큰 추출
+     */
+    public static String resolveToken(HttpServletRequest request) {
         // 먼저 Authorization 헤더에서 토큰 확인
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -93,4 +132,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         return null;
     }
+
+    /**
+     * refreshToken 쿠키에서 Refresh Token 추출 (없으면 null)
+     */
+    public static String resolveRefreshToken(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (jakarta.servlet.http.Cookie cookie : request.getCookies()) {
+                if ("refreshToken".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,161 @@
+package com.agentica.user.security;
+
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JWT 키링 보관 및 무중단 교체
+ *
+ * - jwt.keys.file 이 지정되면 해당 파일에서 읽음
+ * - 미지정 시 jwt.keys.allow-ephemeral=true(dev/test 프로필)일 때만 임시 ES256 키를 생성하고, 아니면 기동 실패
+ *   (재시작마다 모든 토큰이 무효화되고 노드끼리 서로의 토큰을 거부하므로 운영에서는 허용하지 않음)
+ * - 파일이 바뀌면 감시 스레드가 새 키링을 만들어 AtomicReference 로 한 번에 교체
+ * - 요청 경로는 참조 읽기 + 불변 Map 조회만 하므로 교체 중에도 대기 없이 검증
+ * - 새 파일이 잘못된 경우 기존 키링을 유지
+ *
+ * 키 교체 절차: 새 키 추가(공개키만) → 모든 노드 반영 후 activeKid 변경 →
+ * 이전 키는 발급 토큰이 모두 만료될 때까지 공개키만 남겨두었다가 제거
+ */
+@Slf4j
+@Component
+public class JwtKeyManager {
+
+    private final AtomicReference<JwtKeyRing> keyRing = new AtomicReference<>();
+    private final SecretKey legacyKey;
+    private final Path keysFile;
+    private final boolean watchEnabled;
+
+    private volatile byte[] loadedDigest;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public JwtKeyManager(@Value("${jwt.secret}") String secretKey,
+                         @Value("${jwt.keys.file:}") String keysFile,
+                         @Value("${jwt.keys.watch:true}") boolean watchEnabled,
+                         @Value("${jwt.keys.allow-ephemeral:false}") boolean allowEphemeral) throws Exception {
+        this.legacyKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.keysFile = StringUtils.hasText(keysFile) ? Path.of(keysFile).toAbsolutePath() : null;
+        this.watchEnabled = watchEnabled;
+
+        if (this.keysFile != null) {
+            // 시작 시점에는 잘못된 키링 파일이면 기동 실패
+            byte[] content = Files.readAllBytes(this.keysFile);
+            swap(JwtKeyRing.parse(content, legacyKey), digest(content));
+        } else {
+            if (!allowEphemeral) {
+                throw new IllegalStateException(
+                        "jwt.keys.file(JWT_KEYS_FILE) 이 설정되지 않았습니다. 개발/테스트에서만 jwt.keys.allow-ephemeral=true 로 임시 키를 사용할 수 있습니다.");
+            }
+            keyRing.set(JwtKeyRing.generate(legacyKey));
+            log.warn("jwt.keys.file 미설정 - 임시 ES256 키 사용 (재시작 시 발급 토큰 무효, 다중 노드 불가): kid={}",
+                    current().getActiveKid());
+        }
+    }
+
+    public JwtKeyRing current() {
+        return keyRing.get();
+    }
+
+    /**
+     * 키링 파일 재로드 (내용이 같으면 건너뜀)
+     * @return 교체되었으면 true
+     */
+    public boolean reload() {
+        if (keysFile == null) {
+            return false;
+        }
+        try {
+            byte[] content = Files.readAllBytes(keysFile);
+            byte[] digest = digest(content);
+            if (Arrays.equals(digest, loadedDigest)) {
+                return false;
+            }
+            swap(JwtKeyRing.parse(content, legacyKey), digest);
+            return true;
+        } catch (Exception e) {
+            log.error("JWT 키링 재로드 실패 - 기존 키링 유지 (activeKid={}): {}",
+                    current().getActiveKid(), e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void swap(JwtKeyRing newKeyRing, byte[] digest) {
+        JwtKeyRing previous = keyRing.getAndSet(newKeyRing);
+        loadedDigest = digest;
+        log.info("JWT 키링 적용: activeKid={} (이전: {}), keys={}",
+                newKeyRing.getActiveKid(),
+                previous != null ? previous.getActiveKid() : "-",
+                newKeyRing.getVerificationKeys().keySet());
+    }
+
+    @PostConstruct
+    public void startWatching() throws IOException {
+        if (keysFile == null || !watchEnabled) {
+            return;
+        }
+
+        // 파일 자체가 아닌 디렉터리를 감시 (편집기 저장, ConfigMap 심볼릭 링크 교체 모두 대응)
+        Path directory = keysFile.getParent();
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watcherThread = new Thread(this::watchLoop, "jwt-keyring-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("JWT 키링 파일 감시 시작: {}", keysFile);
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                // 연속된 쓰기 이벤트를 한 번의 재로드로 묶기 위해 잠시 대기
+                TimeUnit.MILLISECONDS.sleep(200);
+                key.pollEvents();
+                reload();
+                if (!key.reset()) {
+                    log.error("JWT 키링 디렉터리 감시가 중단되었습니다: {}", keysFile.getParent());
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void stopWatching() throws IOException {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private static byte[] digest(byte[] content) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(content);
+    }
+}
@@ -0,0 +1,180 @@
+package com.agentica.user.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 묶음 (불변 스냅샷)
+ *
+ * - 서명: 활성 kid 의 ES256 개인키
+ * - 검증: kid 로 찾는 공개키 목록 (교체 전 키 포함)
+ * - kid 가 없는 이전 HS256 토큰은 jwt.secret 기반 키로 검증
+ * - JWKS 응답 본문은 생성 시 한 번만 직렬화해 재사용
+ *
+ * 키링 파일 형식 (JSON, 키는 Base64 DER):
+ * <pre>
+ * {
+ *   "activeKid": "2026-10-a",
+ *   "keys": [
+ *     { "kid": "2026-10-a", "privateKey": "PKCS#8...", "publicKey": "X.509..." },
+ *     { "kid": "2026-07-z", "publicKey": "X.509..." }
+ *   ]
+ * }
+ * </pre>
+ */
+public final class JwtKeyRing {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String activeKid;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+    private final SecretKey legacyKey;
+    private final byte[] jwks;
+
+    private JwtKeyRing(String activeKid, PrivateKey signingKey,
+                       Map<String, PublicKey> verificationKeys, SecretKey legacyKey) {
+        if (!verificationKeys.containsKey(activeKid)) {
+            throw new IllegalArgumentException("활성 kid 의 공개키가 없습니다: " + activeKid);
+        }
+        this.activeKid = activeKid;
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.legacyKey = legacyKey;
+        this.jwks = buildJwks(verificationKeys);
+    }
+
+    /**
+     * 키링 JSON 파싱
+     */
+    public static JwtKeyRing parse(byte[] json, SecretKey legacyKey) throws IOException, GeneralSecurityException {
+        JsonNode root = OBJECT_MAPPER.readTree(json);
+        String activeKid = root.path("activeKid").asText(null);
+        if (activeKid == null) {
+            throw new IllegalArgumentException("키링 파일에 activeKid 가 없습니다.");
+        }
+
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        PrivateKey signingKey = null;
+
+        for (JsonNode node : root.path("keys")) {
+            String kid = node.path("kid").asText();
+            publicKeys.put(kid, keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(node.path("publicKey").asText()))));
+
+            if (kid.equals(activeKid)) {
+                String privateKey = node.path("privateKey").asText(null);
+                if (privateKey == null) {
+                    throw new IllegalArgumentException("활성 kid 의 개인키가 없습니다: " + activeKid);
+                }
+                signingKey = keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey)));
+            }
+        }
+
+        if (signingKey == null) {
+            throw new IllegalArgumentException("키링 파일에 활성 kid 항목이 없습니다: " + activeKid);
+        }
+        return new JwtKeyRing(activeKid, signingKey, publicKeys, legacyKey);
+    }
+
+    /**
+     * 키링 파일이 없을 때 사용하는 임시 키 (프로세스 재시작 시 변경, 단일 노드 개발용)
+     */
+    public static JwtKeyRing generate(SecretKey legacyKey) {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        String kid = "ephemeral-" + thumbprint(keyPair.getPublic());
+        return new JwtKeyRing(kid, keyPair.getPrivate(), Map.of(kid, keyPair.getPublic()), legacyKey);
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    public SecretKey getLegacyKey() {
+        return legacyKey;
+    }
+
+    public PublicKey getVerificationKey(String kid) {
+        return verificationKeys.get(kid);
+    }
+
+    public Map<String, PublicKey> getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    /**
+     * 직렬화된 JWKS 응답 본문 (호출 측에서 수정하지 않는다는 전제로 복사 없이 반환)
+     */
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    private static byte[] buildJwks(Map<String, PublicKey> keys) {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        boolean first = true;
+        for (Map.Entry<String, PublicKey> entry : keys.entrySet()) {
+            ECPublicKey key = (ECPublicKey) entry.getValue();
+            if (!first) {
+                json.append(',');
+            }
+            json.append("{\"kty\":\"EC\",\"crv\":\"P-256\",\"use\":\"sig\",\"alg\":\"ES256\",\"kid\":\"")
+                .append(entry.getKey())
+                .append("\",\"x\":\"").append(base64Url(coordinate(key.getW().getAffineX())))
+                .append("\",\"y\":\"").append(base64Url(coordinate(key.getW().getAffineY())))
+                .append("\"}");
+            first = false;
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // P-256 좌표는 32바이트 고정 길이 (부호 바이트 제거, 앞자리 0 채움)
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == 32) {
+            return bytes;
+        }
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return fixed;
+    }
+
+    private static String thumbprint(PublicKey key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return base64Url(Arrays.copyOf(digest, 12));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,7 +1,12 @@
 package com.agentica.user.security;
 
+import com.agentica.user.domain.member.AuthProvider;
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -9,85 +14,292 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    public static final String CLAIM_MEMBER_ID = "mid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_PROVIDER = "provider";
+    public static final String CLAIM_DEVICE_ID = "did";
+    // 토큰 종류 (Refresh Token 을 Access Token 자리에 쓰지 못하도록 구분)
+    public static final String CLAIM_TOKEN_TYPE = "typ";
+    public static final String TOKEN_TYPE_ACCESS = "access";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
+    private final JwtKeyManager keyManager;
+    // 서명 검증 후 적용하는 폐기 검사 (jti 폐기 목록, 회원별 토큰 버전)
+    private final List<TokenRevocationPolicy> revocationPolicies;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final boolean acceptLegacyHmac;
+    private final JwtParser jwtParser;
+    // 서명 검증을 통과한 토큰의 클레임 캐시 (같은 토큰의 반복 검증 시 ECDSA 연산 생략)
+    private final Cache<String, VerifiedToken> verifiedTokens;
     private final long accessTokenValidityTime;
     private final long refreshTokenValidityTime;
     private final UserDetailsService userDetailsService;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+    public JwtTokenProvider(JwtKeyManager keyManager,
+                           List<TokenRevocationPolicy> revocationPolicies,
+                           @Value("${jwt.signing-algorithm:ES256}") SignatureAlgorithm signatureAlgorithm,
+                           @Value("${jwt.accept-legacy-hs256:true}") boolean acceptLegacyHmac,
                            @Value("${jwt.access-token-validity-time}") long accessTokenValidityTime,
                            @Value("${jwt.refresh-token-validity-time}") long refreshTokenValidityTime,
+                           @Value("${jwt.verification-cache.max-size:10000}") long verificationCacheSize,
+                           @Value("${jwt.verification-cache.ttl:60s}") Duration verificationCacheTtl,
                            UserDetailsService userDetailsService) {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        if (signatureAlgorithm != SignatureAlgorithm.ES256 && signatureAlgorithm != SignatureAlgorithm.HS256) {
+            throw new IllegalArgumentException("지원하지 않는 JWT 서명 알고리즘: " + signatureAlgorithm);
+        }
+        this.keyManager = keyManager;
+        this.revocationPolicies = revocationPolicies;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.acceptLegacyHmac = acceptLegacyHmac || signatureAlgorithm == SignatureAlgorithm.HS256;
+        // JwtParser는 불변/스레드 안전하므로 한 번만 생성해 모든 요청에서 재사용
+        // 검증 키는 헤더의 kid 로 현재 키링에서 조회
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verificationCacheSize)
+                .expireAfter(new VerifiedTokenExpiry(verificationCacheTtl.toNanos()))
+                .build();
         this.accessTokenValidityTime = accessTokenValidityTime;
         this.refreshTokenValidityTime = refreshTokenValidityTime;
         this.userDetailsService = userDetailsService;
     }
 
-    // Access Token 생성
-    public String createAccessToken(String email) {
-        Claims claims = Jwts.claims().setSubject(email);
+    // Access Token 생성 (회원 ID/권한/제공자를 클레임에 포함, jti 로 개별 폐기 가능)
+    public String createAccessToken(Member member) {
+        Claims claims = Jwts.claims().setSubject(member.getEmail());
+        claims.put(CLAIM_MEMBER_ID, member.getId());
+        claims.put(CLAIM_ROLE, member.getRole().name());
+        claims.put(CLAIM_PROVIDER, member.getProvider().name());
+        claims.put(TokenVersionCache.CLAIM_TOKEN_VERSION, member.getTokenVersion());
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS);
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessTokenValidityTime);
 
-        return Jwts.builder()
+        return sign(Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(expiry));
     }
 
-    // Refresh Token 생성
-    public String createRefreshToken(String email) {
+    // Refresh Token 생성 (기기 ID 를 포함해 갱신 시 해당 기기 세션만 회전)
+    public String createRefreshToken(String email, String deviceId) {
         Claims claims = Jwts.claims().setSubject(email);
+        claims.put(CLAIM_DEVICE_ID, deviceId);
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenValidityTime);
 
-        return Jwts.builder()
+        // jti 로 같은 시각에 발급된 토큰끼리도 구분 (저장소의 비교-교체 회전용)
+        return sign(Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(expiry));
+    }
+
+    /**
+     * 설정된 알고리즘으로 서명 (ES256 이면 활성 kid 를 헤더에 기록)
+     */
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing keyRing = keyManager.current();
+        if (signatureAlgorithm == SignatureAlgorithm.HS256) {
+            return builder.signWith(keyRing.getLegacyKey(), SignatureAlgorithm.HS256).compact();
+        }
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
+    /**
+     * kid 로 검증 키 조회
+     * 헤더 알고리즘과 키 종류를 고정해 알고리즘 혼동 공격 차단
+     */
+    private Key resolveVerificationKey(JwsHeader header) {
+        JwtKeyRing keyRing = keyManager.current();
+        String kid = header.getKeyId();
+        String algorithm = header.getAlgorithm();
+
+        if (kid == null) {
+            if (acceptLegacyHmac && SignatureAlgorithm.HS256.getValue().equals(algorithm)) {
+                return keyRing.getLegacyKey();
+            }
+            throw new UnsupportedJwtException("kid 가 없는 토큰은 허용되지 않습니다.");
+        }
+
+        Key key = keyRing.getVerificationKey(kid);
+        if (key == null || !SignatureAlgorithm.ES256.getValue().equals(algorithm)) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 서명 검증과 클레임 파싱을 한 번에 수행
+     * 검증 실패 시 JwtException 또는 IllegalArgumentException 발생
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 유효한 토큰이면 클레임 반환, 아니면 null (요청 경로용 단일 검증)
+     * 최근 검증된 토큰은 캐시에서 반환하되, 키링이 교체되었거나 만료되었으면 다시 검증
+     * 폐기된 토큰(jti 폐기, 토큰 버전 불일치)은 서명이 유효해도 거부
+     */
+    public Claims verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        Claims claims = verifySignature(token);
+        if (claims == null) {
+            return null;
+        }
+        for (TokenRevocationPolicy policy : revocationPolicies) {
+            if (policy.isRevoked(claims)) {
+                return null;
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Access Token 으로만 사용 가능한 토큰이면 클레임 반환 (인증 필터, nginx 검증, 토큰 일괄 검증용)
+     */
+    public Claims verifyAccessToken(String token) {
+        Claims claims = verify(token);
+        return claims != null && isAccessToken(claims) ? claims : null;
+    }
+
+    /**
+     * Refresh Token 이면 클레임 반환 (토큰 갱신 전용)
+     */
+    public Claims verifyRefreshToken(String token) {
+        Claims claims = verify(token);
+        return claims != null && !isAccessToken(claims) ? claims : null;
+    }
+
+    /**
+     * typ 클레임으로 판단, typ 가 없는 이전 토큰은 수명(만료 - 발급)이 Access Token 유효 기간 이하일 때만 Access Token
+     */
+    public boolean isAccessToken(Claims claims) {
+        String type = claims.get(CLAIM_TOKEN_TYPE, String.class);
+        if (type != null) {
+            return TOKEN_TYPE_ACCESS.equals(type);
+        }
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        return issuedAt != null && expiration != null
+                && expiration.getTime() - issuedAt.getTime() <= accessTokenValidityTime;
+    }
+
+    private Claims verifySignature(String token) {
+        JwtKeyRing keyRing = keyManager.current();
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.keyRing() == keyRing
+                && cached.claims().getExpiration().getTime() > System.currentTimeMillis()) {
+            return cached.claims();
+        }
+
+        try {
+            Claims claims = parseClaims(token);
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(token, new VerifiedToken(claims, keyRing));
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // JWT 토큰에서 이메일 추출
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // JWT 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token) != null;
     }
 
     // JWT 토큰에서 Authentication 객체 생성
     public Authentication getAuthentication(String token) {
-        String email = getEmailFromToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        return getAuthentication(parseClaims(token));
+    }
+
+    // 이미 검증된 클레임에서 Authentication 객체 생성 (재파싱 없음, 회원 DB 조회)
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /**
+     * 클레임만으로 Authentication 객체 생성 (DB 조회 없음)
+     * 권한 클레임이 없는 이전 형식의 토큰이면 null 반환 → 호출 측에서 DB 조회로 대체
+     */
+    public Authentication getStatelessAuthentication(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Number memberId = claims.get(CLAIM_MEMBER_ID, Number.class);
+        if (role == null || memberId == null) {
+            return null;
+        }
+
+        MemberPrincipal principal = new MemberPrincipal(
+                memberId.longValue(),
+                claims.getSubject(),
+                Role.valueOf(role),
+                AuthProvider.fromString(claims.get(CLAIM_PROVIDER, String.class)),
+                null);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    private record VerifiedToken(Claims claims, JwtKeyRing keyRing) {
+    }
+
+    /**
+     * 캐시 만료 = min(토큰 만료까지 남은 시간, 캐시 TTL)
+     */
+    private record VerifiedTokenExpiry(long ttlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.claims().getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    // Refresh Token 만료 시간 반환 (밀리초)
+    public long getRefreshTokenValidityTime() {
+        return refreshTokenValidityTime;
+    }
+
     // Access Token 만료 시간 반환 (밀리초)
     public long getAccessTokenValidityTime() {
         return accessTokenValidityTime;
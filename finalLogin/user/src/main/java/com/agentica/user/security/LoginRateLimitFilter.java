@@ -0,0 +1,180 @@
+package com.agentica.user.security;
+
+import com.agentica.user.response.ApiResponse;
+import com.agentica.user.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 자격 증명 대입 공격 방어용 시도 횟수 제한 필터
+ *
+ * Spring Security 체인(JwtAuthenticationFilter)과 컨트롤러보다 먼저 실행되어
+ * 한도를 넘은 요청은 비밀번호 해시 비교 전에 429 + Retry-After 로 거절
+ *
+ * - IP: 접속 주소, 단 접속 주소가 신뢰하는 프록시(nginx)이면 X-Forwarded-For 의 마지막 값 (nginx 가 직접 추가한 값)
+ *   (앱 포트에 직접 접속한 클라이언트가 X-Forwarded-For 로 IP 를 바꿔 한도를 우회하지 못하도록)
+ * - 계정: 요청 본문의 email, 없으면 Access Token 의 subject (비밀번호 확인 API)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    // 계정 추출을 위해 미리 읽는 본문 최대 크기 (나머지는 그대로 이어서 전달)
+    private static final int MAX_PEEK_BYTES = 8 * 1024;
+
+    private final LoginRateLimiter rateLimiter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    // X-Forwarded-For 를 신뢰할 접속 주소 대역 (비어 있으면 항상 접속 주소 사용)
+    private final List<IpAddressMatcher> trustedProxies;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!"POST".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // JSON 본문만 미리 읽음 (폼 요청은 파라미터 파싱을 위해 스트림을 건드리지 않음)
+        HttpServletRequest wrapped = isJson(request) ? new PeekedBodyRequest(request) : request;
+        String ip = clientIp(request);
+        String account = resolveAccount(wrapped);
+
+        long retryAfter = rateLimiter.tryAcquire(ip, account);
+        if (retryAfter > 0) {
+            log.warn("시도 횟수 초과 - path={}, ip={}, account={}", request.getServletPath(), ip, account);
+            reject(response, retryAfter);
+            return;
+        }
+        filterChain.doFilter(wrapped, response);
+    }
+
+    private boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        boolean fromTrustedProxy = remoteAddress != null
+                && trustedProxies.stream().anyMatch(proxy -> proxy.matches(remoteAddress));
+        String forwardedFor = fromTrustedProxy ? request.getHeader("X-Forwarded-For") : null;
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddress;
+        }
+        return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+    }
+
+    private String resolveAccount(HttpServletRequest request) {
+        String email = null;
+        if (request instanceof PeekedBodyRequest peeked && peeked.peek.length > 0) {
+            try {
+                email = objectMapper.readTree(peeked.peek).path("email").asText(null);
+            } catch (IOException e) {
+                // JSON 이 아니거나 잘린 본문 → 토큰으로 판단
+            }
+        }
+        if (email == null) {
+            String token = JwtAuthenticationFilter.resolveToken(request);
+            Claims claims = token != null ? jwtTokenProvider.verifyAccessToken(token) : null;
+            email = claims != null ? claims.getSubject() : null;
+        }
+        return email != null && !email.isBlank() ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("TOO_MANY_REQUESTS")
+                .message("요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.")
+                .build();
+
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(errorResponse));
+    }
+
+    /**
+     * 본문 앞부분을 미리 읽고, 이후 읽기에서는 읽은 부분 + 남은 스트림을 이어서 제공
+     */
+    private static final class PeekedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] peek;
+        private final InputStream body;
+        private boolean finished;
+
+        private PeekedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            InputStream original = request.getInputStream();
+            this.peek = original.readNBytes(MAX_PEEK_BYTES);
+            this.body = new SequenceInputStream(new ByteArrayInputStream(peek), original);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int value = body.read();
+                    finished = value == -1;
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = body.read(buffer, offset, length);
+                    finished = count == -1;
+                    return count;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.agentica.user.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/비밀번호 확인/인증번호 확인 시도 횟수 제한 (IP 별, 계정별)
+ *
+ * 1단계: 노드 내부 토큰 버킷 (네트워크 왕복 없이 즉시 거절)
+ * 2단계: Redis 슬라이딩 윈도 카운터 (클러스터 전체 기준, Lua 1회 호출로 확인+증가)
+ *   - 직전 고정 윈도 횟수를 경과 비율만큼 가중해 현재 윈도 횟수와 합산 (키 2개, 메모리 O(1))
+ *   - Redis 장애 시에는 1단계 제한만 적용 (로그인 자체를 막지 않음)
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "auth:ratelimit:";
+
+    // KEYS[1]=현재 윈도, KEYS[2]=직전 윈도 / ARGV[1]=한도, ARGV[2]=윈도(ms), ARGV[3]=현재 윈도 경과(ms)
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = RedisScript.of("""
+            local window = tonumber(ARGV[2])
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local weight = (window - tonumber(ARGV[3])) / window
+            if previous * weight + current >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], window * 2)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenBucketTable buckets;
+    private final boolean redisEnabled;
+    private final long windowMillis;
+    private final int ipLimit;
+    private final int accountLimit;
+    private final MeterRegistry meterRegistry;
+
+    public LoginRateLimiter(StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.rate-limit.window:1m}") Duration window,
+                            @Value("${auth.rate-limit.ip-limit:30}") int ipLimit,
+                            @Value("${auth.rate-limit.account-limit:10}") int accountLimit,
+                            @Value("${auth.rate-limit.local.stripes:64}") int stripes,
+                            @Value("${auth.rate-limit.local.max-entries:100000}") int maxEntries,
+                            @Value("${auth.rate-limit.redis.enabled:true}") boolean redisEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.buckets = new TokenBucketTable(stripes, maxEntries);
+        this.redisEnabled = redisEnabled;
+        this.windowMillis = window.toMillis();
+        this.ipLimit = ipLimit;
+        this.accountLimit = accountLimit;
+
+        Gauge.builder("auth.rate_limit.local.entries", buckets, TokenBucketTable::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시도 1회 기록
+     * @param account 계정 식별자 (알 수 없으면 null → IP 만 검사)
+     * @return 0 이면 허용, 아니면 재시도까지 기다릴 시간(초)
+     */
+    public long tryAcquire(String ip, String account) {
+        long retryAfter = tryAcquire("ip", ip, ipLimit);
+        if (retryAfter == 0 && account != null) {
+            retryAfter = tryAcquire("account", account, accountLimit);
+        }
+        return retryAfter;
+    }
+
+    private long tryAcquire(String scope, String key, int limit) {
+        long waitNanos = buckets.tryAcquire(scope + ":" + key, limit,
+                TimeUnit.MILLISECONDS.toNanos(windowMillis) / limit);
+        if (waitNanos > 0) {
+            reject(scope, "local");
+            return retryAfterSeconds(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+        if (!redisEnabled) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        long windowIndex = now / windowMillis;
+        long elapsed = now - windowIndex * windowMillis;
+        // 클러스터에서 두 윈도 키가 같은 슬롯에 오도록 해시 태그 사용
+        String base = KEY_PREFIX + "{" + scope + ":" + key + "}:";
+        try {
+            Long allowed = redisTemplate.execute(SLIDING_WINDOW_SCRIPT,
+                    List.of(base + windowIndex, base + (windowIndex - 1)),
+                    String.valueOf(limit), String.valueOf(windowMillis), String.valueOf(elapsed));
+            if (allowed != null && allowed == 0) {
+                reject(scope, "redis");
+                return retryAfterSeconds(windowMillis - elapsed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis 시도 횟수 확인 실패 - 노드 내부 제한만 적용: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    // 초 단위 올림 (내림하면 안내한 시각에 재시도해도 다시 거절됨)
+    private static long retryAfterSeconds(long waitMillis) {
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    private void reject(String scope, String tier) {
+        meterRegistry.counter("auth.rate_limit.rejected", "scope", scope, "tier", tier).increment();
+    }
+}
@@ -0,0 +1,89 @@
+package com.agentica.user.security;
+
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberCache;
+import com.agentica.user.domain.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일/비밀번호 로그인 인증
+ *
+ * 회원을 한 번만 조회해 비밀번호, 이메일 인증 여부, 권한을 한 번에 확인
+ * (DaoAuthenticationProvider + 사전 존재 확인으로 같은 회원을 두 번 조회하던 경로 대체)
+ * 결과 Principal 에 회원 엔티티를 담아 호출 측이 추가 조회 없이 토큰을 발급
+ * 저장된 해시가 현재 알고리즘/작업량보다 약하면 로그인 성공 시 평문으로 다시 해시해 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberAuthenticationProvider implements AuthenticationProvider {
+
+    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final @Lazy PasswordEncoder passwordEncoder;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String email = authentication.getName();
+        Object credentials = authentication.getCredentials();
+
+        // 비밀번호 검증은 DB 의 최신 해시로 (회원 캐시를 거치지 않음)
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 이메일입니다."));
+
+        // 소셜 전용 회원(비밀번호 없음)도 같은 메시지로 거부
+        if (credentials == null || !member.hasPassword()
+                || !passwordEncoder.matches(credentials.toString(), member.getPassword())) {
+            throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+
+        // 비밀번호가 맞은 뒤에만 인증 상태를 알려줌
+        if (!member.isEmailVerified()) {
+            throw new DisabledException("이메일 인증이 필요합니다.");
+        }
+
+        upgradePasswordIfNeeded(member, credentials.toString());
+
+        MemberPrincipal principal = MemberPrincipal.from(member);
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+    }
+
+    /**
+     * 해시 재생성 실패(해시 대기열 포화 등)는 로그인에 영향을 주지 않음 → 다음 로그인 때 다시 시도
+     */
+    private void upgradePasswordIfNeeded(Member member, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(member.getPassword())) {
+            return;
+        }
+        try {
+            // 트랜잭션 밖에서 읽은 엔티티를 병합하면 그 사이 커밋된 비밀번호 변경/토큰 버전을 되돌리므로 비밀번호 컬럼만 조건부 갱신
+            String oldHash = member.getPassword();
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (memberRepository.updatePasswordIfUnchanged(member.getId(), oldHash, newHash) == 0) {
+                log.info("비밀번호 해시 갱신 생략 - 로그인 중 비밀번호 변경됨: memberId={}", member.getId());
+                return;
+            }
+            member.updatePassword(newHash);
+            memberCache.evict(member.getEmail());
+            log.info("비밀번호 해시 갱신: memberId={}", member.getId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신 실패: memberId={} - {}", member.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
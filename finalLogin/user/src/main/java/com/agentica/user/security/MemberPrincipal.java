@@ -0,0 +1,53 @@
+package com.agentica.user.security;
+
+import com.agentica.user.domain.member.AuthProvider;
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 인증된 회원 정보를 담는 Principal
+ * Access Token 클레임만으로도 생성할 수 있어 요청마다 DB 조회가 필요 없음
+ * 로그인 시에는 조회한 회원 엔티티를 함께 담아 토큰 발급에 재사용 (클레임 기반이면 member 는 null)
+ */
+@Getter
+public class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final AuthProvider provider;
+    private final String password;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private final Member member;
+
+    public MemberPrincipal(Long id, String email, Role role, AuthProvider provider, String password) {
+        this(id, email, role, provider, password, null);
+    }
+
+    private MemberPrincipal(Long id, String email, Role role, AuthProvider provider, String password, Member member) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.provider = provider;
+        this.password = password;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.member = member;
+    }
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member.getId(), member.getEmail(), member.getRole(),
+                member.getProvider(), member.getPassword(), member);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,62 @@
+package com.agentica.user.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 호스트에서 목표 지연 시간에 맞는 비밀번호 해시 작업량 산정 (시작 시 1회)
+ *
+ * - 최소 작업량으로 실측한 뒤 비례 계산 (단계별 반복 측정 없이 시작 지연을 목표 시간 수준으로 유지)
+ *   BCrypt: strength 1 증가마다 2배, Argon2: 반복 횟수에 비례
+ * - 결과는 [min, max] 범위로 제한 (성능이 다른 노드가 섞여도 해시 강도가 한쪽으로 치우치지 않도록)
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1!";
+    private static final int SAMPLES = 3;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static int bcryptStrength(Duration target, int minStrength, int maxStrength) {
+        long elapsed = measure(new BCryptPasswordEncoder(minStrength));
+        int strength = minStrength;
+        while (strength < maxStrength && elapsed * 2 <= target.toNanos()) {
+            elapsed *= 2;
+            strength++;
+        }
+        log.info("BCrypt strength 산정: {} (목표 {}ms, 예상 {}ms)", strength, target.toMillis(), elapsed / 1_000_000);
+        return strength;
+    }
+
+    public static int argon2Iterations(Duration target, int memoryKib, int parallelism,
+                                       int minIterations, int maxIterations) {
+        long elapsed = measure(argon2(memoryKib, parallelism, minIterations));
+        long perIteration = Math.max(1, elapsed / minIterations);
+        int iterations = (int) Math.max(minIterations, Math.min(maxIterations, target.toNanos() / perIteration));
+        log.info("Argon2id 반복 횟수 산정: {} (메모리 {}KiB, 목표 {}ms, 예상 {}ms)",
+                iterations, memoryKib, target.toMillis(), perIteration * iterations / 1_000_000);
+        return iterations;
+    }
+
+    public static Argon2PasswordEncoder argon2(int memoryKib, int parallelism, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, parallelism, memoryKib, iterations);
+    }
+
+    // 첫 호출(클래스 로딩/JIT)을 제외한 최솟값 (다른 작업에 의한 일시적 지연 배제)
+    private static long measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
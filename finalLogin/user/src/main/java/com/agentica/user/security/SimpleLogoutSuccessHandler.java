@@ -32,7 +32,12 @@ public class SimpleLogoutSuccessHandler implements LogoutSuccessHandler {
             // 1. 세션 강제 무효화 (우선 처리)
             forceInvalidateSession(request);
             
-            // 2. OAuth2 토큰 정리
+            // 2. 소셜 로그아웃 처리 (제공자 토큰 폐기에 저장된 토큰이 필요하므로 정리보다 먼저)
+            String userEmail = authentication != null ? authentication.getName() : null;
+            socialLogoutService.processLogout(authentication, userEmail,
+                    JwtAuthenticationFilter.resolveRefreshToken(request), DeviceIdCookie.read(request));
+            
+            // 3. OAuth2 토큰 정리
             if (authentication instanceof OAuth2AuthenticationToken oauth2Token) {
                 String registrationId = oauth2Token.getAuthorizedClientRegistrationId();
                 String principalName = authentication.getName();
@@ -41,10 +46,6 @@ public class SimpleLogoutSuccessHandler implements LogoutSuccessHandler {
                 authorizedClientService.removeAuthorizedClient(registrationId, principalName);
             }
             
-            // 3. 소셜 로그아웃 처리
-            String userEmail = authentication != null ? authentication.getName() : null;
-            socialLogoutService.processLogout(authentication, userEmail);
-            
             // 4. 강화된 쿠키 정리 (세션 무효화 후 실행)
             deleteAllCookies(request, response);
             
@@ -108,7 +109,10 @@ public class SimpleLogoutSuccessHandler implements LogoutSuccessHandler {
         try {
             if (request.getCookies() != null) {
                 for (Cookie cookie : request.getCookies()) {
-                    deleteCookie(response, cookie.getName());
+                    // 기기 ID 쿠키는 다음 로그인에서 같은 세션을 쓰도록 유지
+                    if (!DeviceIdCookie.COOKIE_NAME.equals(cookie.getName())) {
+                        deleteCookie(response, cookie.getName());
+                    }
                 }
             }            // 추가적으로 삭제할 쿠키들 (네이버 특화 포함)
             String[] extraCookies = {
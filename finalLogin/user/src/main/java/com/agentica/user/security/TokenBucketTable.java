@@ -0,0 +1,107 @@
+package com.agentica.user.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 표 (노드 내부, 락 분할 + 크기 제한)
+ *
+ * - 키 해시로 고른 stripe 하나만 잠그므로 서로 다른 키의 요청끼리 경합하지 않음
+ * - stripe 마다 접근 순서 LinkedHashMap 으로 최대 항목 수를 넘으면 가장 오래 쓰지 않은 버킷 제거
+ *   (제거된 키는 가득 찬 버킷으로 다시 시작 - 오래 쓰지 않은 키는 어차피 가득 차 있음)
+ */
+final class TokenBucketTable {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final LongSupplier clock;
+
+    TokenBucketTable(int stripeCount, int maxEntries) {
+        this(stripeCount, maxEntries, System::nanoTime);
+    }
+
+    // clock: 나노초 단위 단조 시계 (테스트에서 시간 경과를 직접 지정)
+    TokenBucketTable(int stripeCount, int maxEntries, LongSupplier clock) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        int maxPerStripe = Math.max(1, maxEntries / size);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(maxPerStripe);
+        }
+        this.mask = size - 1;
+        this.clock = clock;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @param capacity 버킷 크기 (연속 허용 횟수)
+     * @param refillNanos 토큰 1개가 다시 차는 시간
+     * @return 0 이면 허용, 아니면 다음 토큰까지 남은 시간(ns)
+     */
+    long tryAcquire(String key, int capacity, long refillNanos) {
+        Stripe stripe = stripes[stripeIndex(key)];
+        long now = clock.getAsLong();
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.put(key, bucket);
+            } else {
+                bucket.refill(capacity, refillNanos, now);
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) ((1 - bucket.tokens) * refillNanos);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    int stripeIndex(String key) {
+        return spread(key.hashCode()) & mask;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        private void refill(int capacity, long refillNanos, long now) {
+            tokens = Math.min(capacity, tokens + (double) (now - updatedAt) / refillNanos);
+            updatedAt = now;
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxEntries;
+
+        private Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
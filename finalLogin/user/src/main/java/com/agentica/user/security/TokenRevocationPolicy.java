@@ -0,0 +1,11 @@
+package com.agentica.user.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 통과한 토큰의 추가 폐기 검사 (JwtTokenProvider.verify 에서 순서대로 적용)
+ */
+public interface TokenRevocationPolicy {
+
+    boolean isRevoked(Claims claims);
+}
@@ -0,0 +1,162 @@
+package com.agentica.user.security;
+
+import com.agentica.user.domain.member.MemberRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 회원별 토큰 버전 캐시 (비밀번호 변경/탈퇴 시 모든 세션 일괄 폐기)
+ *
+ * - Access Token 의 ver 클레임이 회원의 현재 tokenVersion 과 다르면 거부
+ * - 노드별 Caffeine 캐시(memberId → version)로 검증 경로에서 DB 를 조회하지 않음
+ *   캐시에 없으면(노드 재시작, 캐시 제거 후 첫 요청) DB 조회를 최대 load-timeout 동안만 기다림
+ *   → 시간 안에 읽지 못하면(DB 장애/지연) 그때만 토큰의 ver 를 인정 (조회는 계속 진행되어 다음 요청부터 반영)
+ * - 버전이 오르면 Redis pub/sub 으로 "memberId:version" 을 전파해 각 노드 캐시를 즉시 갱신
+ * - 메시지를 놓친 경우에 대비해 캐시 항목은 일정 시간 후 백그라운드로 DB 에서 다시 읽음 (읽는 동안 기존 값 사용)
+ * - jwt.token-version.enabled=false 이면 검사와 전파 모두 생략
+ */
+@Slf4j
+@Component
+public class TokenVersionCache implements TokenRevocationPolicy, MessageListener {
+
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    public static final String CHANNEL = "auth:token-version:events";
+
+    // 삭제된 회원: 어떤 ver 클레임과도 일치하지 않음
+    private static final long DELETED = Long.MIN_VALUE;
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final AsyncLoadingCache<Long, Long> versions;
+    private final long loadTimeoutMillis;
+
+    public TokenVersionCache(MemberRepository memberRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             @Value("${jwt.token-version.enabled:true}") boolean enabled,
+                             @Value("${jwt.token-version.cache-size:100000}") long cacheSize,
+                             @Value("${jwt.token-version.cache-ttl:10m}") Duration cacheTtl,
+                             @Value("${jwt.token-version.load-timeout:200ms}") Duration loadTimeout) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.loadTimeoutMillis = loadTimeout.toMillis();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .refreshAfterWrite(cacheTtl)
+                .buildAsync(this::loadVersion);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * ver 클레임이 없는 이전 토큰과 Refresh Token 은 검사하지 않음
+     * 캐시에 없으면 DB 조회를 제한 시간만큼 기다리고, 그래도 확인할 수 없을 때만 토큰의 ver 를 인정
+     */
+    @Override
+    public boolean isRevoked(Claims claims) {
+        if (!enabled) {
+            return false;
+        }
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        Number memberId = claims.get(JwtTokenProvider.CLAIM_MEMBER_ID, Number.class);
+        if (tokenVersion == null || memberId == null) {
+            return false;
+        }
+        Long currentVersion = await(memberId.longValue(), versions.get(memberId.longValue()));
+        return currentVersion != null && tokenVersion.longValue() != currentVersion;
+    }
+
+    /**
+     * 버전 증가를 현재 노드에 반영하고 다른 노드에 전파 (트랜잭션 중이면 커밋 후)
+     */
+    public void publish(Long memberId, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(memberId, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(memberId, version);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            update(Long.parseLong(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("토큰 버전 메시지 형식 오류: {}", body);
+        }
+    }
+
+    private void apply(Long memberId, long version) {
+        if (!enabled) {
+            return;
+        }
+        update(memberId, version);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, memberId + ":" + version);
+        } catch (RuntimeException e) {
+            // 다른 노드는 캐시 만료 후 DB 에서 새 버전을 읽음
+            log.error("토큰 버전 변경 전파 실패: memberId={}", memberId, e);
+        }
+    }
+
+    // 순서가 뒤바뀐 메시지로 버전이 되돌아가지 않도록 큰 값만 반영 (진행 중인 DB 조회 결과보다 우선)
+    private void update(Long memberId, long version) {
+        versions.synchronous().asMap().merge(memberId, version, Math::max);
+    }
+
+    // 캐시 값 (갱신 중인 기존 값 포함), 없으면 제한 시간 동안 DB 조회 대기, 시간 초과/실패 시 null
+    private Long await(Long memberId, CompletableFuture<Long> future) {
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return future.join();
+        }
+        try {
+            return future.get(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 조회 실패/지연 → 가용성을 위해 토큰의 ver 를 인정 (fail open)
+        }
+        log.warn("토큰 버전 조회 실패/지연 - 토큰의 ver 인정: memberId={}", memberId);
+        return null;
+    }
+
+    private Long loadVersion(Long memberId) {
+        Long version = memberRepository.findTokenVersionById(memberId);
+        return version != null ? version : DELETED;
+    }
+}
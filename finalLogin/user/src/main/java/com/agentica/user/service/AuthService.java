@@ -9,11 +9,14 @@ import com.agentica.user.dto.LoginRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
@@ -82,23 +85,25 @@ public class AuthService {
     }
     
     /**
-     * 로그인
+     * 로그인 (회원 조회, 비밀번호/인증 여부 확인은 MemberAuthenticationProvider 에서 한 번에 처리)
+     * 반환된 Authentication 의 Principal 은 회원 엔티티를 담은 MemberPrincipal
+     * 트랜잭션 밖에서 실행: 비밀번호 해시가 제한된 해시 풀 대기열에서 기다리는 동안 DB 커넥션을 붙잡지 않음
+     * (회원 조회/해시 갱신은 리포지토리의 짧은 트랜잭션으로 각각 처리)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Authentication login(LoginRequest loginRequest) {
-        Member member = memberRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이메일입니다."));
-
-        if (!member.isEmailVerified()) {
-            throw new IllegalArgumentException("이메일 인증이 필요합니다.");
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(
+                            loginRequest.getEmail(),
+                            loginRequest.getPassword()
+                    )
+            );
+        } catch (UsernameNotFoundException | DisabledException e) {
+            throw new IllegalArgumentException(e.getMessage());
         }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getEmail(),
-                        loginRequest.getPassword()
-                )
-        );
-
         SecurityContextHolder.getContext().setAuthentication(authentication);
         return authentication;
     }
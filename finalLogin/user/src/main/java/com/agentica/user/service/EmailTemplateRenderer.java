@@ -0,0 +1,121 @@
+package com.agentica.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 템플릿 사전 컴파일 렌더러
+ *
+ * 시작 시 Thymeleaf 로 템플릿을 1회 처리해 "고정 문자열 + 변수 자리" 배열로 만들어 두고,
+ * 발송 시에는 파싱/표현식 평가 없이 고정 문자열과 이스케이프한 변수 값을 재사용 버퍼에 이어 붙임
+ * - 변수 자리에는 고유 표식 값을 넣어 처리한 뒤 결과를 표식 기준으로 나눔
+ *   → th:text/th:href 등 값을 그대로 출력하는 템플릿만 대상 (변수에 따른 th:if/th:each 가 있으면 안 됨)
+ * - 변수 값은 Thymeleaf 와 같은 방식(HTML 이스케이프)으로 출력, null 은 빈 문자열
+ * - 템플릿 파일을 바꾸면 재시작해야 반영 (spring.thymeleaf.cache 설정과 무관)
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    // 템플릿 이름 → 사용하는 변수
+    private static final Map<String, List<String>> TEMPLATES = Map.of(
+            "email/verification-code", List.of("toEmail", "verificationCode"),
+            "email/verification", List.of("email", "verificationUrl"),
+            "email/password-reset", List.of("email", "resetUrl"));
+
+    // 렌더링 버퍼를 스레드별로 재사용하되, 큰 메일 이후 계속 붙잡고 있지 않도록 상한 설정
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Map<String, CompiledTemplate> templates;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine) {
+        this.templates = TEMPLATES.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> compile(templateEngine, entry.getKey(), entry.getValue())));
+        log.info("메일 템플릿 사전 컴파일 완료: {}", templates.keySet());
+    }
+
+    public boolean supports(String templateName) {
+        return templates.containsKey(templateName);
+    }
+
+    public String render(String templateName, Map<String, ?> variables) {
+        CompiledTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("사전 컴파일되지 않은 메일 템플릿입니다: " + templateName);
+        }
+
+        // 변수마다 1회만 이스케이프 (여러 곳에 쓰여도 재사용)
+        String[] values = new String[template.variables().length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = variables.get(template.variables()[i]);
+            values[i] = value != null ? HtmlEscape.escapeHtml4Xml(value.toString()) : "";
+        }
+
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        String[] literals = template.literals();
+        int[] slots = template.slots();
+        for (int i = 0; i < slots.length; i++) {
+            buffer.append(literals[i]).append(values[slots[i]]);
+        }
+        buffer.append(literals[slots.length]);
+
+        String html = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return html;
+    }
+
+    private static CompiledTemplate compile(TemplateEngine templateEngine, String name, List<String> variables) {
+        // 이스케이프 대상 문자가 없는 표식 (MAILVAR<번호>_<임의값>_)
+        String nonce = UUID.randomUUID().toString().replace("-", "");
+        Context context = new Context();
+        for (int i = 0; i < variables.size(); i++) {
+            context.setVariable(variables.get(i), "MAILVAR" + i + "_" + nonce + "_");
+        }
+        String html = templateEngine.process(name, context);
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        boolean[] used = new boolean[variables.size()];
+        Matcher matcher = Pattern.compile("MAILVAR(\\d+)_" + nonce + "_").matcher(html);
+        int start = 0;
+        while (matcher.find()) {
+            int slot = Integer.parseInt(matcher.group(1));
+            literals.add(html.substring(start, matcher.start()));
+            slots.add(slot);
+            used[slot] = true;
+            start = matcher.end();
+        }
+        literals.add(html.substring(start));
+
+        for (int i = 0; i < used.length; i++) {
+            if (!used[i]) {
+                throw new IllegalStateException("메일 템플릿 " + name + " 에서 변수 " + variables.get(i) + " 를 찾을 수 없습니다.");
+            }
+        }
+        return new CompiledTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                variables.toArray(String[]::new));
+    }
+
+    /**
+     * literals[i] + 값[slots[i]] 순서로 이어 붙이고 마지막에 literals[slots.length]
+     */
+    private record CompiledTemplate(String[] literals, int[] slots, String[] variables) {
+    }
+}
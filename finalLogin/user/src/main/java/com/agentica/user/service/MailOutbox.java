@@ -0,0 +1,346 @@
+package com.agentica.user.service;
+
+import com.agentica.user.domain.mail.MailType;
+import com.agentica.user.domain.mail.OutboxMail;
+import com.agentica.user.domain.mail.OutboxMailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 대기열 (트랜잭션 아웃박스 + 발송 작업자)
+ *
+ * 요청 스레드는 mail_outbox 에 행만 추가하고 바로 반환 (SMTP 왕복 없음)
+ * - 행은 호출한 트랜잭션과 함께 커밋 → 롤백되면 메일도 나가지 않고, 커밋되면 반드시 발송 시도
+ * - 커밋 직후 작업자를 깨우므로 평소에는 폴링 주기를 기다리지 않음
+ *
+ * 작업자 (auth.mail-outbox.workers 개)
+ * - FOR UPDATE SKIP LOCKED 로 batch-size 개를 가져가면서 next_attempt_at 을 임대 시간만큼 미룸
+ *   → 여러 작업자/노드가 같은 메일을 동시에 보내지 않고, 작업자가 죽으면 임대 만료 후 다시 발송
+ * - 메일마다 보내기 직전 임대를 갱신 (attempts 가 가져갈 때 값 그대로일 때만 → 배치가 늦어져
+ *   임대가 끝난 사이 다른 작업자가 다시 가져간 메일은 건너뜀, 중복 발송 없음)
+ *   한 통의 발송 시간은 SMTP 타임아웃(EmailConfig)으로 제한되므로 lease 는 그보다 충분히 길게
+ * - 작업자마다 SMTP 연결 1개를 열어 두고 여러 메일을 연속 전송 (메일마다 TCP/TLS/AUTH 반복 없음)
+ *   idle-timeout 동안 보낼 메일이 없으면 연결 종료
+ * - 실패 시 지수 백오프(+지터)로 재시도, 최대 시도 횟수나 유효 시간(expires_at)을 넘기면 폐기
+ */
+@Slf4j
+@Component
+public class MailOutbox {
+
+    private static final String CLAIM_SQL = """
+            SELECT id, mail_type, recipient, payload, attempts, expires_at FROM mail_outbox
+            WHERE next_attempt_at <= ?
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String LEASE_SQL = "UPDATE mail_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+    private static final String RENEW_SQL = "UPDATE mail_outbox SET next_attempt_at = ? WHERE id = ? AND attempts = ?";
+    private static final String RETRY_SQL = "UPDATE mail_outbox SET next_attempt_at = ?, last_error = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM mail_outbox WHERE id = ?";
+
+    private static final long MIN_BACKOFF_MILLIS = 5_000;
+    private static final long MAX_BACKOFF_MILLIS = 300_000;
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailService emailService;
+    private final JavaMailSenderImpl mailSender;
+
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final long idleTimeoutMillis;
+
+    // 커밋 알림 (작업자 수만큼만 쌓아 둠)
+    private final Semaphore wakeups = new Semaphore(0);
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter droppedCounter;
+    private final Timer sendTimer;
+
+    public MailOutbox(OutboxMailRepository outboxMailRepository,
+                      JdbcTemplate jdbcTemplate,
+                      PlatformTransactionManager transactionManager,
+                      EmailService emailService,
+                      JavaMailSenderImpl mailSender,
+                      MeterRegistry meterRegistry,
+                      @Value("${auth.mail-outbox.enabled:true}") boolean enabled,
+                      @Value("${auth.mail-outbox.workers:2}") int workerCount,
+                      @Value("${auth.mail-outbox.batch-size:20}") int batchSize,
+                      @Value("${auth.mail-outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+                      @Value("${auth.mail-outbox.lease:60s}") Duration lease,
+                      @Value("${auth.mail-outbox.max-attempts:5}") int maxAttempts,
+                      @Value("${auth.mail-outbox.idle-timeout:30s}") Duration idleTimeout) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.emailService = emailService;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+
+        long smtpBudgetMillis = smtpTimeoutMillis(mailSender, "mail.smtp.connectiontimeout")
+                + smtpTimeoutMillis(mailSender, "mail.smtp.timeout")
+                + smtpTimeoutMillis(mailSender, "mail.smtp.writetimeout");
+        if (smtpBudgetMillis <= 0 || lease.toMillis() < smtpBudgetMillis * 2) {
+            log.warn("메일 발송 임대 시간({})이 SMTP 타임아웃 합계({}ms)에 비해 짧음 - 느린 SMTP 서버에서 중복 발송 가능",
+                    lease, smtpBudgetMillis);
+        }
+
+        this.sentCounter = meterRegistry.counter("auth.mail_outbox.sent");
+        this.retryCounter = meterRegistry.counter("auth.mail_outbox.retried");
+        this.droppedCounter = meterRegistry.counter("auth.mail_outbox.dropped");
+        this.sendTimer = meterRegistry.timer("auth.mail_outbox.send");
+
+        if (!enabled) {
+            log.info("메일 발송 작업자 비활성화 (auth.mail-outbox.enabled=false) - 대기열 기록만 수행");
+            return;
+        }
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "mail-outbox-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 발송 대기열에 추가 (호출한 트랜잭션과 함께 커밋)
+     * @param expiresAt 이 시각까지 보내지 못하면 폐기
+     */
+    public void enqueue(MailType type, String recipient, String payload, LocalDateTime expiresAt) {
+        outboxMailRepository.save(OutboxMail.builder()
+                .type(type)
+                .recipient(recipient)
+                .payload(payload)
+                .expiresAt(expiresAt)
+                .build());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        wakeups.release(workers.size());
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void wakeUp() {
+        if (wakeups.availablePermits() < workers.size()) {
+            wakeups.release();
+        }
+    }
+
+    private void runWorker() {
+        SmtpConnection connection = new SmtpConnection();
+        long backoffMillis = 100;
+        try {
+            while (running) {
+                int processed;
+                try {
+                    processed = processBatch(connection);
+                    backoffMillis = 100;
+                } catch (RuntimeException e) {
+                    // DB 오류 등 → 잠시 쉬고 다시 시도 (가져간 행은 임대 만료 후 다시 발송)
+                    log.error("메일 발송 대기열 처리 실패, {}ms 후 재시도", backoffMillis, e);
+                    connection.close();
+                    Thread.sleep(backoffMillis);
+                    backoffMillis = Math.min(backoffMillis * 2, 5_000);
+                    continue;
+                }
+                // 가득 찬 배치였으면 남은 메일이 더 있을 수 있으므로 바로 다음 배치
+                if (processed < batchSize && !wakeups.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS)) {
+                    connection.closeIfIdle(idleTimeoutMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * @return 가져간 메일 수
+     */
+    private int processBatch(SmtpConnection connection) {
+        List<ClaimedMail> batch = claim();
+        for (ClaimedMail mail : batch) {
+            if (!mail.expiresAt().isAfter(LocalDateTime.now())) {
+                drop(mail, "유효 시간 만료");
+                continue;
+            }
+            if (!renewLease(mail)) {
+                log.warn("메일 임대 만료 - 다른 작업자가 다시 가져감, 건너뜀: id={}", mail.id());
+                continue;
+            }
+            try {
+                MimeMessage message = emailService.createMessage(mail.type(), mail.recipient(), mail.payload());
+                sendTimer.recordCallable(() -> {
+                    connection.send(message);
+                    return null;
+                });
+                jdbcTemplate.update(DELETE_SQL, mail.id());
+                sentCounter.increment();
+            } catch (Exception e) {
+                fail(mail, e);
+            }
+        }
+        return batch.size();
+    }
+
+    // 발송할 메일을 가져가면서 임대 (다른 작업자는 임대가 끝날 때까지 가져가지 못함)
+    private List<ClaimedMail> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ClaimedMail> batch = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedMail(
+                    rs.getLong("id"),
+                    MailType.valueOf(rs.getString("mail_type")),
+                    rs.getString("recipient"),
+                    rs.getString("payload"),
+                    rs.getInt("attempts") + 1,
+                    rs.getTimestamp("expires_at").toLocalDateTime()), Timestamp.valueOf(now), batchSize);
+            if (!batch.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.valueOf(now.plus(lease));
+                jdbcTemplate.batchUpdate(LEASE_SQL, batch.stream()
+                        .map(mail -> new Object[]{leaseUntil, mail.id()})
+                        .toList());
+            }
+            return batch;
+        });
+    }
+
+    private boolean renewLease(ClaimedMail mail) {
+        Timestamp leaseUntil = Timestamp.valueOf(LocalDateTime.now().plus(lease));
+        return jdbcTemplate.update(RENEW_SQL, leaseUntil, mail.id(), mail.attempts()) == 1;
+    }
+
+    // 설정되지 않은 타임아웃은 0 (무한 대기)
+    private static long smtpTimeoutMillis(JavaMailSenderImpl mailSender, String property) {
+        String value = mailSender.getJavaMailProperties().getProperty(property);
+        return value != null ? Long.parseLong(value.trim()) : 0;
+    }
+
+    private void fail(ClaimedMail mail, Exception e) {
+        if (mail.attempts() >= maxAttempts) {
+            drop(mail, e.getMessage());
+            return;
+        }
+        // 5초, 10초, 20초 ... 최대 5분 (+최대 20% 지터로 재시도 몰림 방지)
+        long backoff = Math.min(MIN_BACKOFF_MILLIS << (mail.attempts() - 1), MAX_BACKOFF_MILLIS);
+        backoff += ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoff));
+
+        jdbcTemplate.update(RETRY_SQL, Timestamp.valueOf(nextAttemptAt), truncate(e.getMessage()), mail.id());
+        retryCounter.increment();
+        log.warn("메일 발송 실패 - id={}, to={}, 시도={}회, {}ms 후 재시도: {}",
+                mail.id(), mail.recipient(), mail.attempts(), backoff, e.getMessage());
+    }
+
+    private void drop(ClaimedMail mail, String reason) {
+        jdbcTemplate.update(DELETE_SQL, mail.id());
+        droppedCounter.increment();
+        log.error("메일 발송 포기 - id={}, type={}, to={}, 시도={}회: {}",
+                mail.id(), mail.type(), mail.recipient(), mail.attempts(), reason);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    private record ClaimedMail(long id, MailType type, String recipient, String payload,
+                               int attempts, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * 작업자 전용 SMTP 연결 (작업자 스레드에서만 사용)
+     */
+    private final class SmtpConnection {
+
+        private Transport transport;
+        private long lastUsedAt;
+
+        void send(MimeMessage message) throws MessagingException {
+            if (transport == null || !transport.isConnected()) {
+                close();
+                Session session = mailSender.getSession();
+                String protocol = mailSender.getProtocol() != null
+                        ? mailSender.getProtocol() : session.getProperty("mail.transport.protocol");
+                transport = session.getTransport(protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+                transport.connect(mailSender.getHost(), mailSender.getPort(),
+                        mailSender.getUsername(), mailSender.getPassword());
+            }
+            message.setSentDate(new Date());
+            message.saveChanges();
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+            } finally {
+                lastUsedAt = System.currentTimeMillis();
+            }
+        }
+
+        void closeIfIdle(long idleMillis) {
+            if (transport != null && System.currentTimeMillis() - lastUsedAt >= idleMillis) {
+                close();
+            }
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.agentica.user.service;
 
 import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberCache;
 import com.agentica.user.domain.member.MemberRepository;
+import com.agentica.user.domain.member.MemberSnapshot;
 import com.agentica.user.dto.MemberResponse;
 import com.agentica.user.dto.ProfileUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -21,25 +23,35 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
     
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
     private final @Lazy PasswordEncoder passwordEncoder;
+    private final TokenService tokenService;
     
     /**
      * 회원 정보 조회
      */
     @Transactional(readOnly = true)
     public MemberResponse getMemberInfo(String email) {
-        Member member = findByEmail(email);
-        return MemberResponse.from(member);
+        return MemberResponse.from(findSnapshotByEmail(email));
     }
 
     /**
-     * 이메일로 회원 찾기
+     * 이메일로 회원 찾기 (수정용 엔티티, 항상 DB 조회)
      */
     public Member findByEmail(String email) {
         return memberRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
     }
 
+    /**
+     * 이메일로 회원 찾기 (조회 전용, 회원 캐시 사용)
+     */
+    @Transactional(readOnly = true)
+    public MemberSnapshot findSnapshotByEmail(String email) {
+        return memberCache.find(email)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    }
+
     /**
      * 비밀번호 확인
      */
@@ -58,8 +70,11 @@ public class MemberService {
         
         if (request.getPassword() != null && !request.getPassword().trim().isEmpty()) {
             member.updatePassword(passwordEncoder.encode(request.getPassword()));
+            // 비밀번호 변경 시 다른 기기의 세션 포함 모든 토큰 폐기
+            tokenService.revokeAllTokens(member);
         }
         memberRepository.save(member);
+        memberCache.evict(email);
     }
       /**
      * 소셜 로그인 사용자 비밀번호 설정 (소셜 → 일반 사용자 전환)
@@ -90,7 +105,9 @@ public class MemberService {
         log.info("비밀번호 암호화 및 사용자 전환 시작");
         // 소셜 사용자를 일반 사용자로 전환
         member.convertToLocalUser(passwordEncoder.encode(password));
+        tokenService.revokeAllTokens(member);
         Member savedMember = memberRepository.save(member);
+        memberCache.evict(email);
         
         log.info("소셜 → 일반 사용자 전환 완료: {} → {}", member.getProvider(), savedMember.getProvider());    }
     
@@ -105,8 +122,10 @@ public class MemberService {
         log.info("탈퇴 대상 회원 정보: id={}, name={}, provider={}", 
                 member.getId(), member.getName(), member.getProvider());
         
-        // 회원 정보 DB에서 완전 삭제
+        // 발급된 토큰 전부 폐기 후 회원 정보 DB에서 완전 삭제
+        tokenService.revokeAllTokens(member);
         memberRepository.delete(member);
+        memberCache.evict(email);
         
         log.info("회원탈퇴 완료 - DB에서 완전 삭제됨: {}", email);
     }
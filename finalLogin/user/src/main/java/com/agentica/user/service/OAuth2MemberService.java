@@ -1,6 +1,7 @@
 package com.agentica.user.service;
 
 import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberCache;
 import com.agentica.user.domain.member.MemberRepository;
 import com.agentica.user.dto.oauth2.OAuth2UserInfo;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class OAuth2MemberService {
     
-    private final MemberRepository memberRepository;    /**
+    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;    /**
      * OAuth2 사용자 저장 또는 업데이트
      * @param userInfo OAuth2 사용자 정보
      * @return 저장/업데이트된 회원 정보
@@ -54,6 +56,8 @@ public class OAuth2MemberService {
                     });
             
             Member savedMember = memberRepository.save(member);
+            // 소셜 프로필(이름/사진) 동기화 결과를 캐시에 반영
+            memberCache.evict(savedMember.getEmail());
             log.info("OAuth2 사용자 저장/업데이트 완료 - ID: {}, Email: {}", savedMember.getId(), savedMember.getEmail());
             
             return savedMember;
@@ -73,6 +77,7 @@ public class OAuth2MemberService {
         return memberRepository.findByEmail(tempEmail)
                 .map(existingMember -> {
                     log.info("임시 이메일로 생성된 기존 회원 발견 - ID: {}", existingMember.getId());
+                    memberCache.evict(tempEmail);
                     return existingMember.update(userInfo.getName(), userInfo.getProfileImage());
                 })
                 .orElseGet(() -> {
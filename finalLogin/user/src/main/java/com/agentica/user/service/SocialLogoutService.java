@@ -47,7 +47,8 @@ public class SocialLogoutService {
 
     /**
      * 소셜 로그아웃 처리 - 심플 버전
-     */    public void processLogout(Authentication authentication, String userEmail) {
+     * Refresh Token 은 현재 기기 세션만 삭제 (refreshToken 의 did, 없으면 기기 ID 쿠키 값)
+     */    public void processLogout(Authentication authentication, String userEmail, String refreshToken, String deviceId) {
         log.info("=== 소셜 로그아웃 처리 시작 ===");
         
         try {
@@ -61,9 +62,9 @@ public class SocialLogoutService {
                 log.warn("⚠️ Authentication 객체가 null입니다!");
             }
             
-            // 1. 토큰 정리 (모든 refresh token 무효화)
+            // 1. 토큰 정리 (현재 기기의 refresh token 무효화, 모든 기기는 강제 로그아웃에서만)
             if (userEmail != null) {
-                tokenService.forceLogout(userEmail);
+                tokenService.logout(userEmail, refreshToken, deviceId);
                 log.info("사용자 토큰 정리 완료: {}", userEmail);
             }
             
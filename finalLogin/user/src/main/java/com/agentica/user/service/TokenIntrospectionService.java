@@ -0,0 +1,100 @@
+package com.agentica.user.service;
+
+import com.agentica.user.dto.introspect.TokenIntrospectionResponse;
+import com.agentica.user.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 내부 서비스용 토큰 일괄 검증
+ *
+ * - 작은 배치는 요청 스레드에서 바로 검증
+ * - 큰 배치는 청크로 나눠 고정 크기 작업 풀에서 병렬 검증
+ *   (큐가 가득 차면 요청 스레드가 직접 처리해 자연스럽게 속도 조절)
+ * - 검증 경로는 JwtTokenProvider.verify 를 그대로 사용 (검증 캐시 공유)
+ */
+@Slf4j
+@Service
+public class TokenIntrospectionService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int maxBatchSize;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+
+    public TokenIntrospectionService(JwtTokenProvider jwtTokenProvider,
+                                     @Value("${auth.introspect.max-batch-size:500}") int maxBatchSize,
+                                     @Value("${auth.introspect.chunk-size:64}") int chunkSize,
+                                     @Value("${auth.introspect.pool-size:4}") int poolSize,
+                                     @Value("${auth.introspect.queue-capacity:256}") int queueCapacity) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.maxBatchSize = maxBatchSize;
+        this.chunkSize = chunkSize;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-introspect-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public List<TokenIntrospectionResponse> introspect(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 검증할 수 있는 토큰은 최대 " + maxBatchSize + "개입니다.");
+        }
+
+        TokenIntrospectionResponse[] results = new TokenIntrospectionResponse[tokens.size()];
+        if (tokens.size() <= chunkSize) {
+            introspectRange(tokens, results, 0, tokens.size());
+            return List.of(results);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, tokens.size());
+            futures.add(CompletableFuture.runAsync(() -> introspectRange(tokens, results, start, end), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        log.debug("토큰 일괄 검증 완료: {}건, {}개 청크", tokens.size(), futures.size());
+        return List.of(results);
+    }
+
+    private void introspectRange(List<String> tokens, TokenIntrospectionResponse[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = introspect(tokens.get(i));
+        }
+    }
+
+    private TokenIntrospectionResponse introspect(String token) {
+        // Refresh Token 은 비활성으로 응답 (Access Token 자리에 쓰지 못하도록)
+        Claims claims = jwtTokenProvider.verifyAccessToken(token);
+        if (claims == null) {
+            return TokenIntrospectionResponse.inactive();
+        }
+        return TokenIntrospectionResponse.from(claims,
+                claims.get(JwtTokenProvider.CLAIM_MEMBER_ID),
+                claims.get(JwtTokenProvider.CLAIM_ROLE, String.class));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
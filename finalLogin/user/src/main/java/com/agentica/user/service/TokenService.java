@@ -1,15 +1,25 @@
 package com.agentica.user.service;
 
-import com.agentica.user.domain.token.RefreshToken;
-import com.agentica.user.domain.token.RefreshTokenRepository;
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.MemberRepository;
+import com.agentica.user.domain.token.RefreshSession;
+import com.agentica.user.domain.token.RefreshTokenStore;
+import com.agentica.user.dto.SessionResponse;
 import com.agentica.user.dto.TokenResponse;
+import com.agentica.user.security.AccessTokenDenylist;
 import com.agentica.user.security.JwtTokenProvider;
+import com.agentica.user.security.TokenVersionCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -18,59 +28,108 @@ import java.time.LocalDateTime;
 public class TokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberRepository memberRepository;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final TokenVersionCache tokenVersionCache;
 
-    // 토큰 생성
-    public TokenResponse createTokens(String email) {
-        String accessToken = jwtTokenProvider.createAccessToken(email);
-        String refreshToken = jwtTokenProvider.createRefreshToken(email);
+    // 토큰 생성 (이메일만 알고 있을 때 - 클레임 구성을 위해 회원 조회)
+    public TokenResponse createTokens(String email, String deviceId) {
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+        return createTokens(member, deviceId);
+    }
+
+    // 토큰 생성 (기기별 세션, 같은 기기 ID 로 다시 로그인하면 해당 세션을 덮어씀, 웹 로그인은 DeviceIdCookie 로 기기 ID 결정)
+    public TokenResponse createTokens(Member member, String deviceId) {
+        String sessionDeviceId = deviceId != null ? deviceId : UUID.randomUUID().toString();
+        TokenResponse tokens = issueTokens(member, sessionDeviceId);
 
         // Refresh Token 저장
-        saveRefreshToken(email, refreshToken);
+        refreshTokenStore.save(member.getEmail(), sessionDeviceId, tokens.getRefreshToken(), refreshTokenTtl());
 
-        return TokenResponse.of(accessToken, refreshToken, jwtTokenProvider.getAccessTokenValidityTime());
+        return tokens;
     }
 
     // Refresh Token으로 Access Token 갱신
     public TokenResponse refreshToken(String refreshToken) {
-        // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // Refresh Token 유효성 검증 (서명 검증 1회)
+        Claims claims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        if (claims == null) {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-
-        // DB에서 Refresh Token 확인
-        RefreshToken savedToken = refreshTokenRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 Refresh Token입니다."));
+        Member member = memberRepository.findByEmail(claims.getSubject())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+        String deviceId = claims.get(JwtTokenProvider.CLAIM_DEVICE_ID, String.class);
+        if (deviceId == null) {
+            deviceId = RefreshSession.DEFAULT_DEVICE_ID;
+        }
+        TokenResponse tokens = issueTokens(member, deviceId);
 
-        if (!savedToken.getToken().equals(refreshToken) || savedToken.isExpired()) {
+        // 해당 기기에 저장된 토큰이 요청 토큰과 같을 때만 교체 (동시 갱신/재사용된 토큰은 한쪽만 성공)
+        if (!refreshTokenStore.rotate(member.getEmail(), deviceId, refreshToken, tokens.getRefreshToken(), refreshTokenTtl())) {
             throw new IllegalArgumentException("만료되거나 유효하지 않은 Refresh Token입니다.");
         }
+        return tokens;
+    }
 
-        // 새로운 토큰 생성
-        return createTokens(email);
-    }    // 로그아웃 (Refresh Token 삭제)
-    public void logout(String email) {
-        log.info("RefreshToken 삭제 시작: {}", email);
+    // 로그인 세션(기기) 목록
+    @Transactional(readOnly = true)
+    public List<SessionResponse> getSessions(String email) {
+        return refreshTokenStore.findSessions(email).stream()
+                .map(SessionResponse::from)
+                .toList();
+    }
+
+    /**
+     * 로그아웃 (현재 기기의 Refresh Token 만 삭제, 다른 기기 세션은 유지)
+     * 기기는 Refresh Token 의 did 클레임(만료된 토큰 포함)으로, 없으면 기기 ID 쿠키로 판단
+     */
+    public void logout(String email, String refreshToken, String cookieDeviceId) {
+        String deviceId = deviceIdOf(email, refreshToken);
+        if (deviceId == null) {
+            deviceId = cookieDeviceId;
+        }
+        if (deviceId == null) {
+            log.info("로그아웃 기기를 알 수 없어 RefreshToken 삭제 생략: {}", email);
+            return;
+        }
+        log.info("RefreshToken 삭제 시작: {} ({})", email, deviceId);
         try {
-            refreshTokenRepository.deleteByEmail(email);
-            log.info("RefreshToken 삭제 완료: {}", email);
+            refreshTokenStore.delete(email, deviceId);
+            log.info("RefreshToken 삭제 완료: {} ({})", email, deviceId);
         } catch (Exception e) {
-            log.error("RefreshToken 삭제 중 오류 발생: {}", email, e);
+            log.error("RefreshToken 삭제 중 오류 발생: {} ({})", email, deviceId, e);
         }
     }
     
+    // Access Token 개별 폐기 (남은 수명 동안 모든 노드에서 거부)
+    public void revokeAccessToken(String accessToken) {
+        Claims claims = jwtTokenProvider.verifyAccessToken(accessToken);
+        if (claims == null || claims.getId() == null) {
+            return;
+        }
+        accessTokenDenylist.revoke(claims.getId(), claims.getExpiration());
+    }
+
+    // 회원의 모든 토큰 폐기 (토큰 버전 증가 → 모든 노드에서 기존 Access Token 거부, Refresh Token 삭제)
+    public void revokeAllTokens(Member member) {
+        long version = member.increaseTokenVersion();
+        refreshTokenStore.deleteAll(member.getEmail());
+        tokenVersionCache.publish(member.getId(), version);
+        log.info("회원의 모든 토큰 폐기: memberId={}, tokenVersion={}", member.getId(), version);
+    }
+
     // 강화된 로그아웃 - 모든 관련 토큰 완전 삭제
     public void forceLogout(String email) {
         log.info("=== 강화된 로그아웃 - 모든 토큰 삭제 시작: {} ===", email);
         try {
             // 1. RefreshToken 삭제
-            refreshTokenRepository.deleteByEmail(email);
+            refreshTokenStore.deleteAll(email);
             log.info("RefreshToken 삭제 완료");
             
-            // 2. 추가적인 토큰 정리 로직 (필요시 확장 가능)
-            // 예: 블랙리스트에 추가, 캐시 정리 등
+            // 2. Access Token 폐기는 요청 토큰을 알고 있는 컨트롤러에서 revokeAccessToken 으로 처리
             
             log.info("강화된 로그아웃 완료: {}", email);
         } catch (Exception e) {
@@ -79,18 +138,34 @@ public class TokenService {
         log.info("=== 강화된 로그아웃 완료: {} ===", email);
     }
 
-    private void saveRefreshToken(String email, String refreshToken) {
-        refreshTokenRepository.findByEmail(email)
-                .ifPresentOrElse(
-                        token -> token.updateToken(refreshToken, LocalDateTime.now().plusDays(7)),
-                        () -> {
-                            RefreshToken newToken = RefreshToken.builder()
-                                    .email(email)
-                                    .token(refreshToken)
-                                    .expiresAt(LocalDateTime.now().plusDays(7))
-                                    .build();
-                            refreshTokenRepository.save(newToken);
-                        }
-                );
+    // 본인의 Refresh Token 이면 기기 ID (did 가 없는 이전 형식은 default), 아니면 null
+    private String deviceIdOf(String email, String refreshToken) {
+        if (refreshToken == null) {
+            return null;
+        }
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseClaims(refreshToken);
+        } catch (ExpiredJwtException e) {
+            // 서명은 검증된 만료 토큰 - 기기 식별에는 사용 가능
+            claims = e.getClaims();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (!email.equals(claims.getSubject()) || jwtTokenProvider.isAccessToken(claims)) {
+            return null;
+        }
+        String deviceId = claims.get(JwtTokenProvider.CLAIM_DEVICE_ID, String.class);
+        return deviceId != null ? deviceId : RefreshSession.DEFAULT_DEVICE_ID;
+    }
+
+    private TokenResponse issueTokens(Member member, String deviceId) {
+        String accessToken = jwtTokenProvider.createAccessToken(member);
+        String refreshToken = jwtTokenProvider.createRefreshToken(member.getEmail(), deviceId);
+        return TokenResponse.of(accessToken, refreshToken, jwtTokenProvider.getAccessTokenValidityTime(), deviceId);
+    }
+
+    private Duration refreshTokenTtl() {
+        return Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidityTime());
     }
 }
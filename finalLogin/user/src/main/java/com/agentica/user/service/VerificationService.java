@@ -1,14 +1,20 @@
 package com.agentica.user.service;
 
+import com.agentica.user.domain.mail.MailType;
 import com.agentica.user.domain.verification.EmailVerificationCode;
-import com.agentica.user.domain.verification.EmailVerificationCodeRepository;
+import com.agentica.user.domain.verification.VerificationAttempt;
+import com.agentica.user.domain.verification.VerificationCodeStore;
+import com.agentica.user.domain.verification.VerificationSendCoalescer;
 import com.agentica.user.dto.EmailVerificationRequest;
 import com.agentica.user.dto.VerifyCodeRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
@@ -18,47 +24,52 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 @Transactional
 public class VerificationService {
-    
-    private final EmailVerificationCodeRepository emailVerificationCodeRepository;
-    private final EmailService emailService;
+
+    // 인증번호 유효 시간
+    private static final Duration CODE_TTL = Duration.ofMinutes(3);
+
+    private final VerificationCodeStore verificationCodeStore;
+    private final MailOutbox mailOutbox;
+    private final VerificationSendCoalescer sendCoalescer;
+    private final TransactionTemplate transactionTemplate;
     
     /**
      * 이메일 인증번호 전송
+     * 발송 대기열에만 기록하고 반환 (실제 SMTP 발송은 MailOutbox 작업자가 처리)
+     * 재발송 대기 시간 안의 중복 요청은 새 인증번호 없이 앞선 발송 결과를 그대로 받음
+     * (합쳐진 요청이 DB 연결을 잡고 기다리지 않도록 트랜잭션은 실제 발송하는 요청만 시작)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendVerificationCode(EmailVerificationRequest request) {
         String email = request.getEmail();
         
         System.out.println("=== 인증번호 전송 요청 ===");
         System.out.println("요청 이메일: " + email);
         
-        // 기존 인증번호 삭제
-        emailVerificationCodeRepository.deleteByEmail(email);
-        
+        sendCoalescer.send(email, () -> transactionTemplate.executeWithoutResult(status -> issueVerificationCode(email)));
+    }
+    
+    private void issueVerificationCode(String email) {
         // 6자리 인증번호 생성
         String verificationCode = generateVerificationCode();
         
-        // 인증번호 저장 (3분 유효)
-        EmailVerificationCode emailVerificationCode = EmailVerificationCode.builder()
-                .email(email)
-                .code(verificationCode)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusMinutes(3))
-                .build();
-        
-        emailVerificationCodeRepository.save(emailVerificationCode);
+        // 인증번호 저장 (기존 인증번호는 폐기, 3분 유효)
+        verificationCodeStore.save(email, verificationCode, CODE_TTL);
         
-        // 이메일 전송
-        emailService.sendVerificationCodeEmail(email, verificationCode);
+        // 이메일 발송 예약 (인증번호가 만료되면 발송하지 않음)
+        mailOutbox.enqueue(MailType.VERIFICATION_CODE, email, verificationCode, LocalDateTime.now().plus(CODE_TTL));
         
-        System.out.println("=== 인증번호 발송 ===");
+        System.out.println("=== 인증번호 발송 예약 ===");
         System.out.println("이메일: " + email);
         System.out.println("인증번호: " + verificationCode);
-        System.out.println("만료시간: " + emailVerificationCode.getExpiresAt());
+        System.out.println("유효시간: " + CODE_TTL.toMinutes() + "분");
     }
     
     /**
      * 인증번호 확인
+     * 불일치로 예외가 나도 증가한 시도 횟수는 커밋 (롤백되면 횟수 제한이 동작하지 않음)
      */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
     public void verifyCode(VerifyCodeRequest request) {
         String email = request.getEmail();
         String code = request.getVerificationCode();
@@ -67,35 +78,16 @@ public class VerificationService {
         System.out.println("이메일: " + email);
         System.out.println("입력된 코드: " + code);
         
-        // 가장 최근 인증번호 조회
-        EmailVerificationCode verificationCode = emailVerificationCodeRepository
-                .findByEmailAndVerifiedFalseOrderByCreatedAtDesc(email)
-                .orElseThrow(() -> new IllegalArgumentException("인증번호를 먼저 요청해주세요."));
-        
-        // 최대 시도 횟수 확인
-        if (verificationCode.isMaxAttemptsReached()) {
-            throw new IllegalArgumentException("인증 시도 횟수를 초과했습니다. 새로운 인증번호를 요청해주세요.");
-        }
-        
-        // 만료 확인
-        if (verificationCode.isExpired()) {
-            throw new IllegalArgumentException("인증번호가 만료되었습니다. 새로운 인증번호를 요청해주세요.");
+        // 시도 횟수 증가, 비교, 인증 완료 표시를 저장소에서 한 번에 처리 (동시 시도도 최대 횟수 보장)
+        VerificationAttempt attempt = verificationCodeStore.verify(email, code, EmailVerificationCode.MAX_ATTEMPTS);
+        switch (attempt.status()) {
+            case NOT_FOUND -> throw new IllegalArgumentException("인증번호를 먼저 요청해주세요.");
+            case MAX_ATTEMPTS -> throw new IllegalArgumentException("인증 시도 횟수를 초과했습니다. 새로운 인증번호를 요청해주세요.");
+            case EXPIRED -> throw new IllegalArgumentException("인증번호가 만료되었습니다. 새로운 인증번호를 요청해주세요.");
+            case MISMATCH -> throw new IllegalArgumentException("인증번호가 일치하지 않습니다. (남은 시도: " + attempt.remainingAttempts() + "번)");
+            case VERIFIED -> { }
         }
         
-        // 시도 횟수 증가
-        verificationCode.incrementAttempt();
-        emailVerificationCodeRepository.save(verificationCode);
-        
-        // 인증번호 확인
-        if (!verificationCode.getCode().equals(code)) {
-            int remainingAttempts = 5 - verificationCode.getAttemptCount();
-            throw new IllegalArgumentException("인증번호가 일치하지 않습니다. (남은 시도: " + remainingAttempts + "번)");
-        }
-        
-        // 인증 완료 처리
-        verificationCode.verify();
-        emailVerificationCodeRepository.save(verificationCode);
-        
         System.out.println("인증 성공!");
     }
     
@@ -103,23 +95,21 @@ public class VerificationService {
      * 회원가입용 인증번호 검증
      */
     public boolean isEmailVerified(String email, String verificationCode) {
-        return emailVerificationCodeRepository
-                .findByEmailAndCodeAndVerifiedTrue(email, verificationCode)
-                .isPresent();
+        return verificationCodeStore.isVerified(email, verificationCode);
     }
     
     /**
      * 인증 완료된 이메일인지 확인
      */
     public boolean hasVerifiedEmail(String email) {
-        return emailVerificationCodeRepository.existsByEmailAndVerifiedTrue(email);
+        return verificationCodeStore.hasVerified(email);
     }
     
     /**
      * 인증 완료 후 데이터 정리
      */
     public void cleanupVerificationData(String email) {
-        emailVerificationCodeRepository.deleteByEmail(email);
+        verificationCodeStore.delete(email);
     }
     
     /**
@@ -1,5 +1,6 @@
 package com.agentica.user.util;
 
+import com.agentica.user.service.EmailTemplateRenderer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -9,6 +10,7 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import jakarta.mail.internet.MimeMessage;
+import java.util.HashMap;
 import java.util.Map;
 
 @Component
@@ -16,6 +18,7 @@ import java.util.Map;
 public class MailUtil {
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer templateRenderer;
 
     @Async
     public void sendVerificationEmail(String to, String subject, String content) {
@@ -33,7 +36,11 @@ public class MailUtil {
         }
     }
 
+    // 메일 템플릿은 사전 컴파일본 사용, 그 외는 Thymeleaf 로 처리
     public String processTemplate(String templateName, Map<String, Object> variables) {
+        if (templateRenderer.supports(templateName)) {
+            return templateRenderer.render(templateName, variables != null ? variables : Map.of());
+        }
         Context context = new Context();
         if (variables != null) {
             variables.forEach(context::setVariable);
@@ -42,8 +49,8 @@ public class MailUtil {
     }
 
     public String processTemplate(String templateName, String variableName, Object variableValue) {
-        Context context = new Context();
-        context.setVariable(variableName, variableValue);
-        return templateEngine.process(templateName, context);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put(variableName, variableValue);
+        return processTemplate(templateName, variables);
     }
 }
@@ -0,0 +1,93 @@
+-- refresh_token, email_verification_code 를 expires_at 범위 파티션 테이블로 전환 (PostgreSQL 14 이상)
+-- 만료 데이터는 행 삭제 대신 파티션 단위로 DETACH + DROP (PartitionRotationJob)
+--   refresh_token: 1일 단위, email_verification_code: 1시간 단위
+--   파티션 이름은 <테이블>_p<YYYYMMDDHH24> (하한 시각), 미래 파티션은 애플리케이션이 계속 생성
+-- 파티션 테이블의 유니크 인덱스는 파티션 키를 포함해야 하므로
+--   - 기본 키는 (id, expires_at)
+--   - (email, device_id) 유니크 인덱스 대신 일반 인덱스 + 애플리케이션 권고 잠금으로 기기당 1행 유지
+-- 만료된 행은 옮기지 않음 (인증 완료된 인증번호는 회원가입 대기를 위해 30분 더 보관)
+-- 옮기는 동안 쓰기가 빈 테이블에 들어가지 않도록 한 트랜잭션에서 실행
+BEGIN;
+
+-- ===== refresh_token =====
+ALTER TABLE refresh_token RENAME TO refresh_token_old;
+
+CREATE TABLE refresh_token (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    token_hash   BYTEA        NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    device_id    VARCHAR(64)  NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    last_used_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+DO $$
+DECLARE
+    lower_bound TIMESTAMP := date_trunc('day', LOCALTIMESTAMP) - INTERVAL '1 day';
+    last_bound  TIMESTAMP := greatest(
+            (SELECT max(expires_at) FROM refresh_token_old),
+            LOCALTIMESTAMP + INTERVAL '9 days');
+BEGIN
+    WHILE lower_bound <= last_bound LOOP
+        EXECUTE format('CREATE TABLE refresh_token_p%s PARTITION OF refresh_token FOR VALUES FROM (%L) TO (%L)',
+                       to_char(lower_bound, 'YYYYMMDDHH24'), lower_bound, lower_bound + INTERVAL '1 day');
+        lower_bound := lower_bound + INTERVAL '1 day';
+    END LOOP;
+END $$;
+
+INSERT INTO refresh_token (id, token_hash, email, device_id, expires_at, created_at, last_used_at)
+SELECT id, token_hash, email, device_id, expires_at, created_at, last_used_at
+FROM refresh_token_old
+WHERE expires_at > LOCALTIMESTAMP;
+
+SELECT setval(pg_get_serial_sequence('refresh_token', 'id'),
+              greatest((SELECT max(id) FROM refresh_token_old), 1));
+
+DROP TABLE refresh_token_old;
+
+CREATE INDEX idx_refresh_token_token_hash ON refresh_token USING hash (token_hash);
+CREATE INDEX idx_refresh_token_email_device ON refresh_token (email, device_id);
+
+-- ===== email_verification_code =====
+ALTER TABLE email_verification_code RENAME TO email_verification_code_old;
+
+CREATE TABLE email_verification_code (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email         VARCHAR(255) NOT NULL,
+    code          VARCHAR(6)   NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    expires_at    TIMESTAMP(6) NOT NULL,
+    verified      BOOLEAN      NOT NULL,
+    attempt_count INTEGER      NOT NULL,
+    PRIMARY KEY (id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+DO $$
+DECLARE
+    lower_bound TIMESTAMP := date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '1 hour';
+    last_bound  TIMESTAMP := greatest(
+            (SELECT max(expires_at) FROM email_verification_code_old),
+            LOCALTIMESTAMP + INTERVAL '6 hours');
+BEGIN
+    WHILE lower_bound <= last_bound LOOP
+        EXECUTE format('CREATE TABLE email_verification_code_p%s PARTITION OF email_verification_code FOR VALUES FROM (%L) TO (%L)',
+                       to_char(lower_bound, 'YYYYMMDDHH24'), lower_bound, lower_bound + INTERVAL '1 hour');
+        lower_bound := lower_bound + INTERVAL '1 hour';
+    END LOOP;
+END $$;
+
+INSERT INTO email_verification_code (id, email, code, created_at, expires_at, verified, attempt_count)
+SELECT id, email, code, created_at, expires_at, verified, attempt_count
+FROM email_verification_code_old
+WHERE expires_at > LOCALTIMESTAMP - INTERVAL '30 minutes';
+
+SELECT setval(pg_get_serial_sequence('email_verification_code', 'id'),
+              greatest((SELECT max(id) FROM email_verification_code_old), 1));
+
+DROP TABLE email_verification_code_old;
+
+CREATE INDEX idx_email_verification_code_email ON email_verification_code (email);
+
+COMMIT;
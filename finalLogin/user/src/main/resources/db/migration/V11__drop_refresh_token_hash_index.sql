@@ -0,0 +1,3 @@
+-- 다이제스트만으로 조회하는 쿼리가 없음 (교체/검증은 모두 email + device_id 로 행을 찾은 뒤 다이제스트 비교)
+-- → 쓰기마다 갱신 비용만 드는 hash 인덱스 제거
+DROP INDEX IF EXISTS idx_refresh_token_token_hash;
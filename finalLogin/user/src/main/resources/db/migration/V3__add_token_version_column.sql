@@ -0,0 +1,2 @@
+-- 회원별 토큰 버전 (비밀번호 변경/탈퇴 시 증가, Access Token 의 ver 클레임과 비교)
+ALTER TABLE member ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
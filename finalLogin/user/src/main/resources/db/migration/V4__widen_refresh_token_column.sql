@@ -0,0 +1,2 @@
+-- ES256 + kid/jti 가 포함된 Refresh Token 은 255자를 넘으므로 컬럼 확장
+ALTER TABLE refresh_token ALTER COLUMN token TYPE VARCHAR(512);
@@ -0,0 +1,11 @@
+-- Refresh Token 원문(varchar) 대신 SHA-256 다이제스트(bytea 32바이트) 저장
+-- 기존 행은 원문으로 다이제스트를 계산해 이전하므로 발급된 Refresh Token 은 그대로 사용 가능
+ALTER TABLE refresh_token ADD COLUMN token_hash BYTEA;
+
+UPDATE refresh_token SET token_hash = sha256(convert_to(token, 'UTF8'));
+
+ALTER TABLE refresh_token ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_token DROP COLUMN token;
+
+-- 등호 조회만 하므로 B-tree 대신 hash 인덱스 (키 크기와 무관하게 4바이트 해시 코드만 저장)
+CREATE INDEX idx_refresh_token_token_hash ON refresh_token USING hash (token_hash);
@@ -0,0 +1,7 @@
+-- 회원당 Refresh Token 1행 보장 (write-behind 모드의 INSERT ... ON CONFLICT (email) 대상)
+-- 중복 행이 있으면 가장 최근 행만 남김
+DELETE FROM refresh_token a
+    USING refresh_token b
+    WHERE a.email = b.email AND a.id < b.id;
+
+CREATE UNIQUE INDEX uk_refresh_token_email ON refresh_token (email);
@@ -0,0 +1,12 @@
+-- 회원당 1행 → (회원 이메일, 기기 ID) 당 1행
+-- 기존 행은 did 클레임이 없는 이전 Refresh Token 과 맞추기 위해 'default' 기기로 이전
+ALTER TABLE refresh_token ADD COLUMN device_id VARCHAR(64) NOT NULL DEFAULT 'default';
+ALTER TABLE refresh_token ALTER COLUMN device_id DROP DEFAULT;
+
+ALTER TABLE refresh_token ADD COLUMN last_used_at TIMESTAMP(6);
+UPDATE refresh_token SET last_used_at = created_at;
+ALTER TABLE refresh_token ALTER COLUMN last_used_at SET NOT NULL;
+
+-- (email, device_id) 유니크 인덱스가 회원 단위 조회(email 선두 컬럼)도 처리
+DROP INDEX uk_refresh_token_email;
+CREATE UNIQUE INDEX uk_refresh_token_email_device ON refresh_token (email, device_id);
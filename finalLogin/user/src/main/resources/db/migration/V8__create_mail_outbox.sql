@@ -0,0 +1,14 @@
+-- 메일 발송 대기열 (트랜잭션 아웃박스, 작업자가 FOR UPDATE SKIP LOCKED 로 나눠 가져감)
+CREATE TABLE mail_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    mail_type       VARCHAR(32)  NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    payload         VARCHAR(255),
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    expires_at      TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(500)
+);
+
+CREATE INDEX idx_mail_outbox_next_attempt ON mail_outbox (next_attempt_at);
@@ -0,0 +1,4 @@
+-- 만료 데이터 정리(HousekeepingScheduler) 청크 삭제가 전체 테이블을 훑지 않도록
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
+CREATE INDEX idx_email_verification_code_expires_at ON email_verification_code (expires_at);
+CREATE INDEX idx_mail_outbox_expires_at ON mail_outbox (expires_at);
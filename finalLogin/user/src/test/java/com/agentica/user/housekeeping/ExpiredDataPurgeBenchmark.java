@@ -0,0 +1,141 @@
+package com.agentica.user.housekeeping;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 데이터 정리 비용 비교 - 행 청크 삭제(ExpiredRowPurgeJob) vs 파티션 삭제(PartitionRotationJob)
+ *
+ * PostgreSQL 필요 (전용 bench_purge_* 테이블만 사용):
+ *   BENCHMARK_JDBC_URL=jdbc:postgresql://localhost:5432/testdb BENCHMARK_DB_USERNAME=postgres BENCHMARK_DB_PASSWORD=...
+ *   ./gradlew jmh -Pjmh.include=ExpiredDataPurgeBenchmark
+ *
+ * 매 실행 전 refresh_token 과 같은 형태의 만료 행 rows 건(3일에 걸쳐) + 유효 행 rows 건을 채움
+ * - rowDelete: 1000건 청크 삭제 + VACUUM (autovacuum 이 나중에 치를 비용까지 포함)
+ * - partitionDrop: 만료 파티션 DETACH CONCURRENTLY + DROP
+ * 실행마다 생성된 WAL 크기는 종료 시 평균으로 출력
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExpiredDataPurgeBenchmark {
+
+    private static final String PLAIN = "bench_purge_plain";
+    private static final String PARTITIONED = "bench_purge_partitioned";
+    private static final int CHUNK_SIZE = 1000;
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private static final String COLUMNS = """
+            (id BIGINT GENERATED BY DEFAULT AS IDENTITY, token_hash BYTEA NOT NULL, email VARCHAR(255) NOT NULL,
+             device_id VARCHAR(64) NOT NULL, expires_at TIMESTAMP(6) NOT NULL, created_at TIMESTAMP(6) NOT NULL,
+             last_used_at TIMESTAMP(6) NOT NULL""";
+    // 만료 행은 1~3일 전, 유효 행은 1~7일 후에 고르게 분포
+    private static final String FILL_SQL = """
+            INSERT INTO %s (token_hash, email, device_id, expires_at, created_at, last_used_at)
+            SELECT sha256(int8send(n)), 'user' || n || '@example.com', 'device', expires_at, expires_at - INTERVAL '7 days', LOCALTIMESTAMP
+            FROM generate_series(1, ?) AS n,
+                 LATERAL (SELECT CASE WHEN n %% 2 = 0
+                                      THEN date_trunc('day', LOCALTIMESTAMP) - (1 + n %% 3) * INTERVAL '1 day' + INTERVAL '1 hour'
+                                      ELSE LOCALTIMESTAMP + (1 + n %% 7) * INTERVAL '1 day' END AS expires_at) AS t
+            """;
+
+    @Param({"100000"})
+    public int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ExpiredRowPurgeJob rowJob;
+    private PartitionRotationJob partitionJob;
+    private String walStart;
+    private long walBytes;
+    private int invocations;
+
+    @Setup(Level.Trial)
+    public void connect() {
+        dataSource = new SingleConnectionDataSource(
+                System.getenv().getOrDefault("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/testdb"),
+                System.getenv().getOrDefault("BENCHMARK_DB_USERNAME", "postgres"),
+                System.getenv().getOrDefault("BENCHMARK_DB_PASSWORD", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        rowJob = new ExpiredRowPurgeJob("bench", PLAIN, "expires_at", Duration.ZERO, jdbcTemplate);
+        partitionJob = new PartitionRotationJob("bench", PARTITIONED, Duration.ofDays(1), Duration.ofDays(9),
+                Duration.ZERO, jdbcTemplate);
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PLAIN + ", " + PARTITIONED);
+        jdbcTemplate.execute("CREATE TABLE " + PLAIN + " " + COLUMNS + ", PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE INDEX ON " + PLAIN + " (expires_at)");
+        jdbcTemplate.execute("CREATE INDEX ON " + PLAIN + " (email, device_id)");
+        jdbcTemplate.execute("CREATE TABLE " + PARTITIONED + " " + COLUMNS + ", PRIMARY KEY (id, expires_at))"
+                + " PARTITION BY RANGE (expires_at)");
+        jdbcTemplate.execute("CREATE INDEX ON " + PARTITIONED + " (email, device_id)");
+        // 만료 행이 들어갈 과거 파티션 (PartitionRotationJob 과 같은 이름 규칙)
+        for (int day = 1; day <= 3; day++) {
+            LocalDateTime lower = LocalDate.now().minusDays(day).atStartOfDay();
+            jdbcTemplate.execute("CREATE TABLE " + PARTITIONED + "_p" + PARTITION_SUFFIX.format(lower)
+                    + " PARTITION OF " + PARTITIONED + " FOR VALUES FROM ('" + lower + "') TO ('" + lower.plusDays(1) + "')");
+        }
+        partitionJob.createAhead();
+
+        jdbcTemplate.update(FILL_SQL.formatted(PLAIN), rows * 2);
+        jdbcTemplate.update(FILL_SQL.formatted(PARTITIONED), rows * 2);
+        jdbcTemplate.execute("VACUUM ANALYZE " + PLAIN);
+        jdbcTemplate.execute("VACUUM ANALYZE " + PARTITIONED);
+        walStart = jdbcTemplate.queryForObject("SELECT pg_current_wal_insert_lsn()::text", String.class);
+    }
+
+    @TearDown(Level.Invocation)
+    public void measureWal() {
+        walBytes += jdbcTemplate.queryForObject(
+                "SELECT pg_wal_lsn_diff(pg_current_wal_insert_lsn(), ?::pg_lsn)::bigint", Long.class, walStart);
+        invocations++;
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        System.out.printf("%n평균 WAL: %,d bytes/실행%n", walBytes / Math.max(1, invocations));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PLAIN + ", " + PARTITIONED);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public long rowDelete() {
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = rowJob.purgeChunk(CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == CHUNK_SIZE);
+        jdbcTemplate.execute("VACUUM " + PLAIN);
+        return purged;
+    }
+
+    @Benchmark
+    public long partitionDrop() {
+        return partitionJob.purgeChunk(CHUNK_SIZE);
+    }
+}
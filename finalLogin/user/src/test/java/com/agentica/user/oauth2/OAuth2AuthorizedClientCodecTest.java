@@ -0,0 +1,100 @@
+package com.agentica.user.oauth2;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2AuthorizedClientCodecTest {
+
+	private static final ClientRegistration KAKAO = ClientRegistration.withRegistrationId("kakao")
+			.clientId("kakao-client")
+			.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+			.redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+			.authorizationUri("https://kauth.kakao.com/oauth/authorize")
+			.tokenUri("https://kauth.kakao.com/oauth/token")
+			.build();
+
+	private static final Function<String, ClientRegistration> REGISTRATIONS =
+			registrationId -> KAKAO.getRegistrationId().equals(registrationId) ? KAKAO : null;
+
+	// 저장 형식이 밀리초 단위이므로 비교 기준도 밀리초로 맞춤
+	private final Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+	@Test
+	void roundTripWithAllFields() {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-값",
+				now, now.plusSeconds(3600), Set.of("profile_nickname", "account_email"));
+		OAuth2RefreshToken refreshToken = new OAuth2RefreshToken("refresh-value", now, now.plus(30, ChronoUnit.DAYS));
+
+		OAuth2AuthorizedClient decoded = roundTrip(new OAuth2AuthorizedClient(KAKAO, "12345", accessToken, refreshToken));
+
+		assertThat(decoded.getClientRegistration()).isSameAs(KAKAO);
+		assertThat(decoded.getPrincipalName()).isEqualTo("12345");
+		assertThat(decoded.getAccessToken().getTokenValue()).isEqualTo("access-값");
+		assertThat(decoded.getAccessToken().getTokenType()).isEqualTo(OAuth2AccessToken.TokenType.BEARER);
+		assertThat(decoded.getAccessToken().getIssuedAt()).isEqualTo(now);
+		assertThat(decoded.getAccessToken().getExpiresAt()).isEqualTo(now.plusSeconds(3600));
+		assertThat(decoded.getAccessToken().getScopes()).containsExactlyInAnyOrder("profile_nickname", "account_email");
+		assertThat(decoded.getRefreshToken().getTokenValue()).isEqualTo("refresh-value");
+		assertThat(decoded.getRefreshToken().getIssuedAt()).isEqualTo(now);
+		assertThat(decoded.getRefreshToken().getExpiresAt()).isEqualTo(now.plus(30, ChronoUnit.DAYS));
+	}
+
+	@Test
+	void roundTripWithoutInstantsScopesOrRefreshToken() {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-value",
+				null, null, Set.of());
+
+		OAuth2AuthorizedClient decoded = roundTrip(new OAuth2AuthorizedClient(KAKAO, "12345", accessToken, null));
+
+		assertThat(decoded.getAccessToken().getTokenValue()).isEqualTo("access-value");
+		assertThat(decoded.getAccessToken().getIssuedAt()).isNull();
+		assertThat(decoded.getAccessToken().getExpiresAt()).isNull();
+		assertThat(decoded.getAccessToken().getScopes()).isEmpty();
+		assertThat(decoded.getRefreshToken()).isNull();
+	}
+
+	@Test
+	void refreshTokenWithoutInstants() {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-value",
+				now, now.plusSeconds(60));
+		OAuth2RefreshToken refreshToken = new OAuth2RefreshToken("refresh-value", null, null);
+
+		OAuth2AuthorizedClient decoded = roundTrip(new OAuth2AuthorizedClient(KAKAO, "12345", accessToken, refreshToken));
+
+		assertThat(decoded.getRefreshToken().getTokenValue()).isEqualTo("refresh-value");
+		assertThat(decoded.getRefreshToken().getIssuedAt()).isNull();
+		assertThat(decoded.getRefreshToken().getExpiresAt()).isNull();
+	}
+
+	@Test
+	void unknownVersionOrRegistrationDecodesToNull() {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-value",
+				now, now.plusSeconds(60));
+		byte[] data = OAuth2AuthorizedClientCodec.encode(new OAuth2AuthorizedClient(KAKAO, "12345", accessToken));
+
+		// 설정에서 빠진 제공자
+		assertThat(OAuth2AuthorizedClientCodec.decode(data, registrationId -> null)).isNull();
+
+		// 알 수 없는 형식 버전
+		byte[] futureVersion = data.clone();
+		futureVersion[0] = 2;
+		assertThat(OAuth2AuthorizedClientCodec.decode(futureVersion, REGISTRATIONS)).isNull();
+	}
+
+	private static OAuth2AuthorizedClient roundTrip(OAuth2AuthorizedClient client) {
+		OAuth2AuthorizedClient decoded = OAuth2AuthorizedClientCodec.decode(OAuth2AuthorizedClientCodec.encode(client), REGISTRATIONS);
+		assertThat(decoded).isNotNull();
+		return decoded;
+	}
+}
@@ -0,0 +1,100 @@
+package com.agentica.user.security;
+
+import com.agentica.user.domain.member.AuthProvider;
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.Role;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * nginx auth_request 검증 엔드포인트 지연 시간 (./gradlew jmh -Pjmh.include=AuthVerifyBenchmark)
+ *
+ * - 회원 1,000명의 서로 다른 Access Token 을 8 스레드에서 무작위로 검증 (SampleTime → p50/p99 출력)
+ * - cached: 서명 검증 캐시 사용 (같은 토큰의 반복 요청)
+ * - uncached: 서명 검증 캐시 없음 (매 요청 ES256 검증, 노드의 첫 요청과 같은 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class AuthVerifyBenchmark {
+
+    private static final int MEMBERS = 1_000;
+
+    private final FilterChain chain = (request, response) -> {
+        throw new IllegalStateException("검증 엔드포인트는 체인을 진행하지 않아야 합니다.");
+    };
+
+    private AuthVerifyFilter cachedFilter;
+    private AuthVerifyFilter uncachedFilter;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyManager keyManager = new JwtKeyManager("test-jwt-secret-key-for-testing-12345678901234567890", "", false, true);
+        JwtTokenProvider cachedProvider = provider(keyManager, 10_000);
+        cachedFilter = new AuthVerifyFilter(cachedProvider);
+        uncachedFilter = new AuthVerifyFilter(provider(keyManager, 0));
+
+        tokens = new String[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = Member.builder()
+                    .email("user" + i + "@example.com")
+                    .name("tester")
+                    .role(Role.USER)
+                    .provider(AuthProvider.LOCAL)
+                    .emailVerified(true)
+                    .build();
+            ReflectionTestUtils.setField(member, "id", (long) i + 1);
+            tokens[i] = cachedProvider.createAccessToken(member);
+        }
+    }
+
+    @Benchmark
+    public int cached() throws Exception {
+        return verify(cachedFilter);
+    }
+
+    @Benchmark
+    public int uncached() throws Exception {
+        return verify(uncachedFilter);
+    }
+
+    private int verify(AuthVerifyFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", AuthVerifyFilter.VERIFY_PATH);
+        request.addHeader("Authorization", "Bearer " + tokens[ThreadLocalRandom.current().nextInt(MEMBERS)]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() != 204) {
+            throw new IllegalStateException("유효한 토큰이 거부되었습니다: " + response.getStatus());
+        }
+        return response.getStatus();
+    }
+
+    private static JwtTokenProvider provider(JwtKeyManager keyManager, long verificationCacheSize) {
+        return new JwtTokenProvider(keyManager, List.of(), SignatureAlgorithm.ES256, true, 3_600_000, 86_400_000,
+                verificationCacheSize, Duration.ofSeconds(60), null);
+    }
+}
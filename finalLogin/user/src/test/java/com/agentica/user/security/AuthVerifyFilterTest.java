@@ -0,0 +1,154 @@
+package com.agentica.user.security;
+
+import com.agentica.user.domain.member.AuthProvider;
+import com.agentica.user.domain.member.Member;
+import com.agentica.user.domain.member.Role;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthVerifyFilterTest {
+
+	private static final int THREADS = 8;
+	private static final int MEMBERS = 64;
+	private static final int REQUESTS_PER_THREAD = 500;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private AuthVerifyFilter filter;
+	private String accessToken;
+
+	// 검증 엔드포인트는 체인을 절대 진행하지 않아야 함
+	private final AtomicInteger chainInvocations = new AtomicInteger();
+	private final FilterChain chain = (request, response) -> chainInvocations.incrementAndGet();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		JwtKeyManager keyManager = new JwtKeyManager("test-jwt-secret-key-for-testing-12345678901234567890", "", false, true);
+		jwtTokenProvider = new JwtTokenProvider(keyManager, List.of(), SignatureAlgorithm.ES256, true, 3_600_000, 86_400_000,
+				10_000, Duration.ofSeconds(60), null);
+		filter = new AuthVerifyFilter(jwtTokenProvider);
+
+		accessToken = jwtTokenProvider.createAccessToken(member(42L, "user@example.com", Role.USER));
+	}
+
+	@Test
+	void validBearerTokenReturnsUserHeaders() throws Exception {
+		MockHttpServletResponse response = verify(bearer(accessToken));
+
+		assertThat(response.getStatus()).isEqualTo(204);
+		assertThat(response.getHeader("X-User-Id")).isEqualTo("42");
+		assertThat(response.getHeader("X-User-Email")).isEqualTo("user@example.com");
+		assertThat(response.getHeader("X-User-Role")).isEqualTo("USER");
+		assertThat(chainInvocations).hasValue(0);
+	}
+
+	@Test
+	void validCookieTokenIsAccepted() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", AuthVerifyFilter.VERIFY_PATH);
+		request.setCookies(new Cookie("accessToken", accessToken));
+
+		assertThat(verify(request).getStatus()).isEqualTo(204);
+	}
+
+	@Test
+	void missingTamperedAndRefreshTokensAreRejected() throws Exception {
+		String refreshToken = jwtTokenProvider.createRefreshToken("user@example.com", "web");
+		String tampered = tamper(accessToken);
+
+		assertThat(verify(new MockHttpServletRequest("GET", AuthVerifyFilter.VERIFY_PATH)).getStatus()).isEqualTo(401);
+		assertThat(verify(bearer(tampered)).getStatus()).isEqualTo(401);
+		assertThat(verify(bearer(refreshToken)).getStatus()).isEqualTo(401);
+		assertThat(chainInvocations).hasValue(0);
+	}
+
+	@Test
+	void concurrentRequestsWithDistinctTokensGetTheirOwnHeaders() throws Exception {
+		// 회원마다 다른 토큰 (서명 검증 캐시 항목이 서로 섞이지 않는지 확인)
+		List<Member> members = new ArrayList<>();
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < MEMBERS; i++) {
+			Member member = member(1_000L + i, "user" + i + "@example.com", i % 5 == 0 ? Role.ADMIN : Role.USER);
+			members.add(member);
+			tokens.add(jwtTokenProvider.createAccessToken(member));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int threadIndex = t;
+				tasks.add(() -> {
+					for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+						int index = (threadIndex * 7 + i) % MEMBERS;
+						String token = tokens.get(index);
+						// 50건 중 1건은 위조 토큰
+						boolean valid = i % 50 != 0;
+						MockHttpServletResponse response = verify(bearer(valid ? token : tamper(token)));
+
+						if (!valid) {
+							assertThat(response.getStatus()).isEqualTo(401);
+							continue;
+						}
+						Member member = members.get(index);
+						assertThat(response.getStatus()).isEqualTo(204);
+						assertThat(response.getHeader("X-User-Id")).isEqualTo(String.valueOf(member.getId()));
+						assertThat(response.getHeader("X-User-Email")).isEqualTo(member.getEmail());
+						assertThat(response.getHeader("X-User-Role")).isEqualTo(member.getRole().name());
+					}
+					return null;
+				});
+			}
+
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+			assertThat(chainInvocations).hasValue(0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Member member(Long id, String email, Role role) {
+		Member member = Member.builder()
+				.email(email)
+				.name("tester")
+				.role(role)
+				.provider(AuthProvider.LOCAL)
+				.emailVerified(true)
+				.build();
+		ReflectionTestUtils.setField(member, "id", id);
+		return member;
+	}
+
+	private static String tamper(String token) {
+		return token.substring(0, token.length() - 4) + "AAAA";
+	}
+
+	private MockHttpServletRequest bearer(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", AuthVerifyFilter.VERIFY_PATH);
+		request.addHeader("Authorization", "Bearer " + token);
+		return request;
+	}
+
+	private MockHttpServletResponse verify(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+}
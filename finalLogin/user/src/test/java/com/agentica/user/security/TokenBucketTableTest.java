@@ -0,0 +1,105 @@
+package com.agentica.user.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTableTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	void rejectsOnceCapacityIsExhausted() {
+		TokenBucketTable table = new TokenBucketTable(4, 100, clock::get);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(table.tryAcquire("ip:1.2.3.4", 3, SECOND)).isZero();
+		}
+		assertThat(table.tryAcquire("ip:1.2.3.4", 3, SECOND)).isEqualTo(SECOND);
+
+		// 다른 키는 각자 버킷
+		assertThat(table.tryAcquire("ip:5.6.7.8", 3, SECOND)).isZero();
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		TokenBucketTable table = new TokenBucketTable(4, 100, clock::get);
+		for (int i = 0; i < 3; i++) {
+			table.tryAcquire("key", 3, SECOND);
+		}
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+		assertThat(table.tryAcquire("key", 3, SECOND))
+				.isBetween(TimeUnit.MILLISECONDS.toNanos(599), TimeUnit.MILLISECONDS.toNanos(601));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+		assertThat(table.tryAcquire("key", 3, SECOND)).isZero();
+		assertThat(table.tryAcquire("key", 3, SECOND)).isEqualTo(SECOND);
+
+		// 오래 쉬어도 버킷 크기까지만 다시 참
+		clock.addAndGet(100 * SECOND);
+		for (int i = 0; i < 3; i++) {
+			assertThat(table.tryAcquire("key", 3, SECOND)).isZero();
+		}
+		assertThat(table.tryAcquire("key", 3, SECOND)).isPositive();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedBucketPerStripe() {
+		// stripe 2개 x stripe 당 2개
+		TokenBucketTable table = new TokenBucketTable(2, 4, clock::get);
+		List<String> keys = keysInSameStripe(table, 4);
+		String a = keys.get(0), b = keys.get(1), c = keys.get(2), d = keys.get(3);
+
+		assertThat(table.tryAcquire(a, 1, SECOND)).isZero();
+		assertThat(table.tryAcquire(b, 1, SECOND)).isZero();
+		assertThat(table.tryAcquire(a, 1, SECOND)).isPositive();
+
+		// a 를 최근에 썼으므로 b 가 밀려남
+		assertThat(table.tryAcquire(c, 1, SECOND)).isZero();
+		assertThat(table.tryAcquire(a, 1, SECOND)).isPositive();
+		assertThat(table.tryAcquire(b, 1, SECOND)).isZero();
+
+		// 이번에는 a 가 가장 오래됨 → 밀려난 뒤 가득 찬 버킷으로 다시 시작
+		assertThat(table.tryAcquire(d, 1, SECOND)).isZero();
+		assertThat(table.tryAcquire(a, 1, SECOND)).isZero();
+
+		for (int i = 0; i < 1_000; i++) {
+			table.tryAcquire("key-" + i, 1, SECOND);
+		}
+		assertThat(table.size()).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	void retryAfterIsRoundedUpToWholeSeconds() {
+		// 1분에 IP 3회, 계정 2회 → 토큰 1개가 다시 차는 데 20초 / 30초
+		LoginRateLimiter rateLimiter = new LoginRateLimiter(null, new SimpleMeterRegistry(),
+				Duration.ofMinutes(1), 3, 2, 4, 100, false);
+
+		assertThat(rateLimiter.tryAcquire("1.2.3.4", "user@example.com")).isZero();
+		assertThat(rateLimiter.tryAcquire("1.2.3.4", "user@example.com")).isZero();
+		assertThat(rateLimiter.tryAcquire("1.2.3.4", "user@example.com")).isEqualTo(30);
+
+		assertThat(rateLimiter.tryAcquire("1.2.3.4", null)).isEqualTo(20);
+	}
+
+	private static List<String> keysInSameStripe(TokenBucketTable table, int count) {
+		List<String> keys = new ArrayList<>();
+		int stripe = table.stripeIndex("key-0");
+		for (int i = 0; keys.size() < count; i++) {
+			if (table.stripeIndex("key-" + i) == stripe) {
+				keys.add("key-" + i);
+			}
+		}
+		return keys;
+	}
+}
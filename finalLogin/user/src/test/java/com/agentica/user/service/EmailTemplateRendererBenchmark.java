@@ -0,0 +1,90 @@
+package com.agentica.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증번호 메일 본문 렌더링 비교 (./gradlew jmh -Pjmh.include=EmailTemplateRendererBenchmark)
+ *
+ * - thymeleaf: 현재 설정 그대로 (spring.thymeleaf.cache=false → 매번 템플릿 파싱)
+ * - thymeleafCached: 템플릿 캐시를 켠 Thymeleaf (파싱 1회, 렌더링마다 표현식 평가)
+ * - precompiled: EmailTemplateRenderer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateRendererBenchmark {
+
+    private static final String TEMPLATE = "email/verification-code";
+    private static final Map<String, Object> VARIABLES = Map.of(
+            "toEmail", "user<1>@example.com", "verificationCode", "123456");
+
+    private SpringTemplateEngine uncachedEngine;
+    private SpringTemplateEngine cachedEngine;
+    private EmailTemplateRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        uncachedEngine = templateEngine(false);
+        cachedEngine = templateEngine(true);
+        renderer = new EmailTemplateRenderer(templateEngine(false));
+
+        // 사전 컴파일 결과가 Thymeleaf 출력과 같아야 비교 의미가 있음
+        if (!renderer.render(TEMPLATE, VARIABLES).equals(thymeleaf())) {
+            throw new IllegalStateException("사전 컴파일 렌더링 결과가 Thymeleaf 와 다릅니다.");
+        }
+    }
+
+    @Benchmark
+    public String thymeleaf() {
+        return uncachedEngine.process(TEMPLATE, context());
+    }
+
+    @Benchmark
+    public String thymeleafCached() {
+        return cachedEngine.process(TEMPLATE, context());
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return renderer.render(TEMPLATE, VARIABLES);
+    }
+
+    private static Context context() {
+        Context context = new Context();
+        VARIABLES.forEach(context::setVariable);
+        return context;
+    }
+
+    // application.yml 의 spring.thymeleaf 설정과 같은 템플릿 엔진
+    private static SpringTemplateEngine templateEngine(boolean cacheable) {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(cacheable);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}